@@ -7,4 +7,6 @@ group = "br.com.fullcycle.application"
 
 dependencies {
     implementation(project(":domain"))
+
+    testImplementation(testFixtures(project(":domain")))
 }
\ No newline at end of file
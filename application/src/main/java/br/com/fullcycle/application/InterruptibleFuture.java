@@ -0,0 +1,88 @@
+package br.com.fullcycle.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+// A future that is also the task computing it: cancelling it, or its deadline passing, interrupts the thread
+// running the use case, so a blocked query gives its connection back instead of finishing for nobody. A task
+// cancelled before it starts never runs. Futures derived from it are plain CompletableFutures.
+final class InterruptibleFuture<T> extends CompletableFuture<T> implements Runnable {
+
+    private final Supplier<T> supplier;
+    private Thread runner;
+    private boolean interrupted;
+
+    InterruptibleFuture(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    static Throwable unwrap(final Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            return error.getCause();
+        }
+
+        return error;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            if (isDone()) {
+                return;
+            }
+
+            this.runner = Thread.currentThread();
+        }
+
+        try {
+            complete(this.supplier.get());
+        } catch (Throwable error) {
+            completeExceptionally(error);
+        } finally {
+            synchronized (this) {
+                this.runner = null;
+
+                // Leaves the pooled thread as it found it
+                if (this.interrupted) {
+                    Thread.interrupted();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final var cancelled = super.cancel(mayInterruptIfRunning);
+
+        if (cancelled) {
+            interruptRunner();
+        }
+
+        return cancelled;
+    }
+
+    @Override
+    public boolean completeExceptionally(final Throwable error) {
+        final var completed = super.completeExceptionally(error);
+
+        if (completed) {
+            interruptRunner();
+        }
+
+        return completed;
+    }
+
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<>();
+    }
+
+    private synchronized void interruptRunner() {
+        if (this.runner != null && this.runner != Thread.currentThread()) {
+            this.interrupted = true;
+            this.runner.interrupt();
+        }
+    }
+}
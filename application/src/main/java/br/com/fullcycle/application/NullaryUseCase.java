@@ -1,5 +1,8 @@
 package br.com.fullcycle.application;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public abstract class NullaryUseCase<OUTPUT> {
 
     public abstract OUTPUT execute();
@@ -11,4 +14,17 @@ public abstract class NullaryUseCase<OUTPUT> {
             return presenter.present(error);
         }
     }
+
+    // See UseCase.executeAsync: a timeout or cancellation interrupts the execution but cannot stop work that ignores it
+    public CompletableFuture<OUTPUT> executeAsync() {
+        return executeAsync(null);
+    }
+
+    public CompletableFuture<OUTPUT> executeAsync(Duration timeout) {
+        return UseCaseExecutor.supply(this::execute, timeout);
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Duration timeout, Presenter<OUTPUT, T> presenter) {
+        return UseCaseExecutor.present(executeAsync(timeout), presenter);
+    }
 }
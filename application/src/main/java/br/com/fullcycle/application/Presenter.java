@@ -1,8 +1,16 @@
 package br.com.fullcycle.application;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface Presenter<IN, OUT> {
 
     OUT present(IN input);
 
     OUT present(Throwable error);
+
+    // Bridges a future output to a future presentation, errors and timeouts included, so an adapter can hand the
+    // result straight back to a framework that completes requests asynchronously
+    default CompletableFuture<OUT> presentAsync(CompletableFuture<IN> future) {
+        return UseCaseExecutor.present(future, this);
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.fullcycle.application;
+
+import java.util.function.Supplier;
+
+// Runs work that has to succeed or fail as a whole, e.g. changes to more than one repository. The infrastructure
+// backs it with a database transaction; none() just runs the work, for callers without one, such as the in-memory
+// repositories of the tests.
+public interface UnitOfWork {
+
+    <T> T execute(Supplier<T> work);
+
+    static UnitOfWork none() {
+        return new UnitOfWork() {
+            @Override
+            public <T> T execute(final Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
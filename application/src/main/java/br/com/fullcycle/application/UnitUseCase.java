@@ -1,6 +1,21 @@
 package br.com.fullcycle.application;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public abstract class UnitUseCase<INPUT> {
 
     public abstract void execute(INPUT input);
+
+    // See UseCase.executeAsync: a timeout or cancellation interrupts the execution but cannot stop work that ignores it
+    public CompletableFuture<Void> executeAsync(INPUT input) {
+        return executeAsync(input, null);
+    }
+
+    public CompletableFuture<Void> executeAsync(INPUT input, Duration timeout) {
+        return UseCaseExecutor.supply(() -> {
+            execute(input);
+            return null;
+        }, timeout);
+    }
 }
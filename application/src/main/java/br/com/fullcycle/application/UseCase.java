@@ -1,5 +1,9 @@
 package br.com.fullcycle.application;
 
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
 public abstract class UseCase<INPUT, OUTPUT> {
 
     public abstract OUTPUT execute(INPUT input);
@@ -11,4 +15,26 @@ public abstract class UseCase<INPUT, OUTPUT> {
             return presenter.present(error);
         }
     }
+
+    // Runs on the UseCaseExecutor; cancelling the future or missing the timeout interrupts the execution. The future
+    // fails right away, but work that does not respond to interruption, e.g. a JDBC call in flight, runs on and may
+    // still commit; use cases that write check abandonIfInterrupted() before they do.
+    public CompletableFuture<OUTPUT> executeAsync(INPUT input) {
+        return executeAsync(input, null);
+    }
+
+    public CompletableFuture<OUTPUT> executeAsync(INPUT input, Duration timeout) {
+        return UseCaseExecutor.supply(() -> execute(input), timeout);
+    }
+
+    public <T> CompletableFuture<T> executeAsync(INPUT input, Duration timeout, Presenter<OUTPUT, T> presenter) {
+        return UseCaseExecutor.present(executeAsync(input, timeout), presenter);
+    }
+
+    // Gives up before a write once the caller has cancelled or timed out, leaving the interrupt flag set
+    protected static void abandonIfInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Abandoned before it was stored: the caller cancelled or timed out");
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package br.com.fullcycle.application;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Every executeAsync runs on the executor set here. Like CompletableFuture it defaults to the common pool; the
+// infrastructure plugs its own at startup, sized for use cases that block on I/O.
+public final class UseCaseExecutor {
+
+    private static volatile Executor executor = ForkJoinPool.commonPool();
+
+    private UseCaseExecutor() {
+    }
+
+    public static void use(final Executor anExecutor) {
+        executor = Objects.requireNonNull(anExecutor);
+    }
+
+    public static Executor current() {
+        return executor;
+    }
+
+    // A null timeout means no deadline
+    static <T> CompletableFuture<T> supply(final Supplier<T> supplier, final Duration timeout) {
+        final var task = new InterruptibleFuture<>(supplier);
+
+        if (timeout != null) {
+            task.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        // A saturated executor fails the future, so it reaches the presenter like any other error
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            task.completeExceptionally(ex);
+        }
+
+        return task;
+    }
+
+    static <IN, OUT> CompletableFuture<OUT> present(final CompletableFuture<IN> future, final Presenter<IN, OUT> presenter) {
+        final var presented = future.handle((output, error) -> error == null
+                ? presenter.present(output)
+                : presenter.present(InterruptibleFuture.unwrap(error)));
+
+        // Cancelling what the caller holds has to reach the running use case
+        presented.whenComplete((ignored, error) -> {
+            if (presented.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+
+        return presented;
+    }
+}
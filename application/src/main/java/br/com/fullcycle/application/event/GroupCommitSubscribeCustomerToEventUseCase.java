@@ -0,0 +1,233 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Group commit in front of SubscribeCustomerToEventUseCase: concurrent subscriptions to the same event join one
+// batch, the first caller of the batch waits up to the window for company and then reserves every seat on a single
+// loaded Event with a single update. When the batch update fails as a whole each item falls back to the regular
+// use case, so every caller still gets its own verdict. Like the regular use case, it leaves the seats of an event
+// with a waitlist to the customers waiting.
+public class GroupCommitSubscribeCustomerToEventUseCase
+        extends UseCase<SubscribeCustomerToEventUseCase.Input, SubscribeCustomerToEventUseCase.Output> {
+
+    private final CustomerRepository customerRepository;
+    private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Map<EventId, Batch> batches;
+    private final AtomicLong commits;
+    private final AtomicLong fallbacks;
+
+    public GroupCommitSubscribeCustomerToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository,
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final Duration window,
+            final int maxBatchSize
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.windowNanos = Objects.requireNonNull(window).toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batches = new ConcurrentHashMap<>();
+        this.commits = new AtomicLong();
+        this.fallbacks = new AtomicLong();
+    }
+
+    @Override
+    public SubscribeCustomerToEventUseCase.Output execute(final SubscribeCustomerToEventUseCase.Input input) {
+        var customer = customerRepository.customerOfId(CustomerId.with(input.customerId()))
+                .orElseThrow(() -> new ValidationException("Customer not found"));
+
+        final var eventId = EventId.with(input.eventId());
+        final var item = new Item(customer.getCustomerId());
+        final var batch = join(eventId, item);
+
+        if (batch.leader == item) {
+            final var items = batch.await(windowNanos);
+            batches.remove(eventId, batch);
+            commit(eventId, items);
+        }
+
+        try {
+            return item.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public long getCommits() {
+        return commits.get();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    private Batch join(final EventId eventId, final Item item) {
+        while (true) {
+            final var batch = batches.computeIfAbsent(eventId, it -> new Batch());
+
+            batch.lock.lock();
+            try {
+                if (batch.closed) {
+                    continue;
+                }
+
+                if (batch.items.isEmpty()) {
+                    batch.leader = item;
+                }
+
+                batch.items.add(item);
+
+                if (batch.items.size() >= maxBatchSize) {
+                    batch.close();
+                    batches.remove(eventId, batch);
+                }
+            } finally {
+                batch.lock.unlock();
+            }
+
+            return batch;
+        }
+    }
+
+    private void commit(final EventId eventId, final List<Item> items) {
+        final var customerIds = new HashSet<CustomerId>(items.size());
+        items.forEach(it -> customerIds.add(it.customerId));
+
+        final var reserved = new ArrayList<Item>(items.size());
+
+        try {
+            if (waitlistRepository.hasWaiting(eventId)) {
+                throw new ValidationException("Event sold out");
+            }
+
+            var event = eventRepository.eventForReservation(eventId, customerIds)
+                    .orElseThrow(() -> new ValidationException("Event not found"));
+
+            for (final var item : items) {
+                try {
+                    item.ticket = event.reserveTicket(item.customerId);
+                    reserved.add(item);
+                } catch (ValidationException ex) {
+                    item.result.completeExceptionally(ex);
+                }
+            }
+
+            if (!reserved.isEmpty()) {
+                eventRepository.update(event);
+                commits.incrementAndGet();
+            }
+
+            final var reservationDate = Instant.now();
+            reserved.forEach(it -> it.result.complete(new SubscribeCustomerToEventUseCase.Output(
+                    eventId.value(),
+                    it.ticket.getEventTicketId().value(),
+                    reservationDate
+            )));
+        } catch (ValidationException | ConcurrencyException ex) {
+            if (reserved.isEmpty() || (reserved.size() == 1 && ex instanceof ValidationException)) {
+                items.forEach(it -> it.result.completeExceptionally(ex));
+                return;
+            }
+
+            // A seat the batch counted on was gone by the time it was written, or the event changed under it:
+            // resolve each item on its own
+            reserved.forEach(it -> fallback(eventId, it));
+        } catch (RuntimeException ex) {
+            items.forEach(it -> it.result.completeExceptionally(ex));
+        }
+    }
+
+    private void fallback(final EventId eventId, final Item item) {
+        fallbacks.incrementAndGet();
+
+        try {
+            item.result.complete(subscribeCustomerToEventUseCase.execute(
+                    new SubscribeCustomerToEventUseCase.Input(eventId.value(), item.customerId.value())
+            ));
+        } catch (RuntimeException ex) {
+            item.result.completeExceptionally(ex);
+        }
+    }
+
+    private static final class Item {
+
+        private final CustomerId customerId;
+        private final CompletableFuture<SubscribeCustomerToEventUseCase.Output> result;
+        private EventTicket ticket;
+
+        private Item(final CustomerId customerId) {
+            this.customerId = customerId;
+            this.result = new CompletableFuture<>();
+        }
+    }
+
+    // Guarded by a ReentrantLock rather than a monitor, so a leader waiting on a virtual thread does not pin its carrier
+    private static final class Batch {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition full = lock.newCondition();
+        private final List<Item> items = new ArrayList<>();
+        private Item leader;
+        private boolean closed;
+
+        // Called with the lock held
+        private void close() {
+            this.closed = true;
+            this.full.signalAll();
+        }
+
+        // Holds the leader until the batch fills up or the window elapses, whichever comes first
+        private List<Item> await(final long windowNanos) {
+            this.lock.lock();
+            try {
+                for (var remaining = windowNanos; !closed && remaining > 0; ) {
+                    remaining = this.full.awaitNanos(remaining);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                closed = true;
+                this.lock.unlock();
+            }
+
+            return items;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Customers only wait for sold-out events, or for events others already wait for, whose free seats are kept for the
+// waitlist; otherwise they subscribe directly. Joining while seats are free schedules a promotion, as the one that
+// freed them may have run before this entry was stored and found nobody to promote.
+public class JoinWaitlistUseCase extends UseCase<JoinWaitlistUseCase.Input, JoinWaitlistUseCase.Output> {
+
+    private final CustomerRepository customerRepository;
+    private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistPromotions waitlistPromotions;
+
+    public JoinWaitlistUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository,
+            final WaitlistPromotions waitlistPromotions
+    ) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.waitlistPromotions = Objects.requireNonNull(waitlistPromotions);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var customer = customerRepository.customerOfId(CustomerId.with(input.customerId()))
+                .orElseThrow(() -> new ValidationException("Customer not found"));
+
+        final var event = eventRepository.eventForReservation(EventId.with(input.eventId()), customer.getCustomerId())
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (event.getAllTickets().stream().anyMatch(it -> it.getCustomerId().equals(customer.getCustomerId()))) {
+            throw new ValidationException("Email already registered");
+        }
+
+        final var hasFreeSeats = event.getSoldCount() < event.getTotalSpots();
+
+        if (hasFreeSeats && !waitlistRepository.hasWaiting(event.getEventId())) {
+            throw new ValidationException("Event not sold out");
+        }
+
+        if (waitlistRepository.entryOf(event.getEventId(), customer.getCustomerId()).isPresent()) {
+            throw new ValidationException("Customer already on the waitlist");
+        }
+
+        final var entry = waitlistRepository.create(WaitlistEntry.newEntry(event.getEventId(), customer.getCustomerId()));
+
+        if (hasFreeSeats) {
+            waitlistPromotions.schedule(event.getEventId());
+        }
+
+        return new Output(
+                entry.getWaitlistEntryId().value(),
+                entry.getEventId().value(),
+                entry.getCustomerId().value(),
+                entry.getJoinedAt()
+        );
+    }
+
+    public record Input(String eventId, String customerId) {}
+
+    public record Output(String id, String eventId, String customerId, Instant joinedAt) {}
+}
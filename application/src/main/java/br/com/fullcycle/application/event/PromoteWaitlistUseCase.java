@@ -0,0 +1,121 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Hands the free seats of an event to the customers at the head of its waitlist, in arrival order. Up to
+// maxBatchSize customers are promoted with a single event update; hasMore tells the caller to run it again.
+public class PromoteWaitlistUseCase extends UseCase<PromoteWaitlistUseCase.Input, PromoteWaitlistUseCase.Output> {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+
+    public PromoteWaitlistUseCase(final EventRepository eventRepository, final WaitlistRepository waitlistRepository) {
+        this(eventRepository, waitlistRepository, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public PromoteWaitlistUseCase(
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository,
+            final int maxBatchSize,
+            final int maxAttempts
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var eventId = EventId.with(input.eventId());
+
+        for (int attempt = 1; ; attempt++) {
+            final var waiting = waitlistRepository.nextOf(eventId, maxBatchSize);
+
+            if (waiting.isEmpty()) {
+                return new Output(eventId.value(), List.of(), false);
+            }
+
+            final var customerIds = waiting.stream()
+                    .map(WaitlistEntry::getCustomerId)
+                    .collect(Collectors.toSet());
+
+            final var event = eventRepository.eventForReservation(eventId, customerIds);
+
+            if (event.isEmpty()) {
+                // Nothing left to wait for
+                waitlistRepository.removeAll(waiting);
+                return new Output(eventId.value(), List.of(), false);
+            }
+
+            final var promoted = new ArrayList<Item>();
+            final var done = new ArrayList<WaitlistEntry>();
+
+            for (final var entry : waiting) {
+                if (event.get().getSoldCount() >= event.get().getTotalSpots()) {
+                    break;
+                }
+
+                try {
+                    final var ticket = event.get().reserveTicket(entry.getCustomerId());
+                    promoted.add(new Item(entry.getCustomerId().value(), ticket.getEventTicketId().value()));
+                } catch (ValidationException ex) {
+                    // Already holds a ticket for the event, so it no longer waits
+                }
+
+                done.add(entry);
+            }
+
+            try {
+                if (!promoted.isEmpty()) {
+                    eventRepository.update(event.get());
+                }
+            } catch (ValidationException | ConcurrencyException ex) {
+                // The update found fewer seats or a newer event than the ones loaded: reload and decide again
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+
+                continue;
+            }
+
+            // Removed only once the seats are stored; an entry left behind by a failure here is dropped on the next
+            // promotion as it already holds a ticket
+            if (!done.isEmpty()) {
+                waitlistRepository.removeAll(done);
+            }
+
+            return new Output(eventId.value(), promoted, done.size() == waiting.size() && waiting.size() == maxBatchSize);
+        }
+    }
+
+    public record Input(String eventId) {}
+
+    public record Output(String eventId, List<Item> promoted, boolean hasMore) {}
+
+    public record Item(String customerId, String eventTicketId) {}
+}
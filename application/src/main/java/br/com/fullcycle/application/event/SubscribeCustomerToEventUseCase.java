@@ -6,24 +6,57 @@ import br.com.fullcycle.domain.customer.CustomerRepository;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventRepository;
 import br.com.fullcycle.domain.event.EventTicket;
-import br.com.fullcycle.domain.event.ticket.Ticket;
-import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
+// While anyone waits for the event its free seats belong to the waitlist, handed out in arrival order by
+// PromoteWaitlistUseCase, so a direct subscription is answered as sold out and the customer may join the waitlist.
 public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerToEventUseCase.Input, SubscribeCustomerToEventUseCase.Output> {
 
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_BACKOFF = Duration.ofMillis(20);
+
     private final CustomerRepository customerRepository;
     private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final AtomicLong conflicts;
+    private final AtomicLong retries;
+
+    public SubscribeCustomerToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository
+    ) {
+        this(customerRepository, eventRepository, waitlistRepository, DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF);
+    }
 
     public SubscribeCustomerToEventUseCase(
             final CustomerRepository customerRepository,
-            final EventRepository eventRepository
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository,
+            final int maxAttempts,
+            final Duration backoff
     ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = Objects.requireNonNull(backoff).toMillis();
+        this.conflicts = new AtomicLong();
+        this.retries = new AtomicLong();
     }
 
     @Override
@@ -31,16 +64,64 @@ public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerTo
         var customer = customerRepository.customerOfId(CustomerId.with(input.customerId))
                 .orElseThrow(() -> new ValidationException("Customer not found"));
 
-        var event = eventRepository.eventOfId(EventId.with(input.eventId))
+        final var eventId = EventId.with(input.eventId);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return reserve(eventId, customer.getCustomerId());
+            } catch (ConcurrencyException ex) {
+                conflicts.incrementAndGet();
+
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+
+                retries.incrementAndGet();
+                backoff(attempt);
+            }
+        }
+    }
+
+    public long getConflicts() {
+        return conflicts.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    private Output reserve(final EventId eventId, final CustomerId customerId) {
+        if (waitlistRepository.hasWaiting(eventId)) {
+            throw new ValidationException("Event sold out");
+        }
+
+        var event = eventRepository.eventForReservation(eventId, customerId)
                 .orElseThrow(() -> new ValidationException("Event not found"));
 
-        final EventTicket ticket = event.reserveTicket(customer.getCustomerId());
+        final EventTicket ticket = event.reserveTicket(customerId);
 
+        abandonIfInterrupted();
         eventRepository.update(event);
 
         return new Output(event.getEventId().value(), ticket.getEventTicketId().value(), Instant.now());
     }
 
+    // Full jitter: sleeps a random time up to the exponential bound, so competing callers spread out
+    private void backoff(final int attempt) {
+        final var bound = backoffMillis << (attempt - 1);
+
+        if (bound <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyException("Interrupted while retrying the reservation", ex);
+        }
+    }
+
     public record Input(String eventId, String customerId) {}
 
     public record Output(String eventId, String eventTicketId, Instant reservationDate) {}
@@ -0,0 +1,145 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Bulk variant of SubscribeCustomerToEventUseCase: one customer query, one event load and one update for the whole
+// request. Items that cannot be reserved are reported one by one instead of failing the others. While anyone waits for
+// the event every item is rejected as sold out, the free seats going to the waitlist.
+public class SubscribeCustomersToEventUseCase
+        extends UseCase<SubscribeCustomersToEventUseCase.Input, SubscribeCustomersToEventUseCase.Output> {
+
+    private static final int DEFAULT_MAX_CUSTOMERS = 500;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private final CustomerRepository customerRepository;
+    private final EventRepository eventRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final int maxCustomers;
+    private final int maxAttempts;
+
+    public SubscribeCustomersToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository
+    ) {
+        this(customerRepository, eventRepository, waitlistRepository, DEFAULT_MAX_CUSTOMERS, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public SubscribeCustomersToEventUseCase(
+            final CustomerRepository customerRepository,
+            final EventRepository eventRepository,
+            final WaitlistRepository waitlistRepository,
+            final int maxCustomers,
+            final int maxAttempts
+    ) {
+        if (maxCustomers < 1) {
+            throw new IllegalArgumentException("maxCustomers must be at least 1");
+        }
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.maxCustomers = maxCustomers;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.customerIds() == null || input.customerIds().isEmpty()) {
+            throw new ValidationException("Invalid customerIds for subscription");
+        }
+
+        if (input.customerIds().size() > maxCustomers) {
+            throw new ValidationException("Too many customers for subscription, at most %d".formatted(maxCustomers));
+        }
+
+        final var requested = input.customerIds().stream()
+                .map(CustomerId::with)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final var found = customerRepository.customersOfIds(requested).stream()
+                .map(Customer::getCustomerId)
+                .collect(Collectors.toSet());
+
+        final var eventId = EventId.with(input.eventId());
+
+        for (int attempt = 1; ; attempt++) {
+            var event = eventRepository.eventForReservation(eventId, found)
+                    .orElseThrow(() -> new ValidationException("Event not found"));
+
+            final var waitlisted = waitlistRepository.hasWaiting(eventId);
+
+            final var items = new ArrayList<Item>(input.customerIds().size());
+            var reserved = false;
+
+            for (final var customerId : input.customerIds()) {
+                final var aCustomerId = CustomerId.with(customerId);
+
+                if (!found.contains(aCustomerId)) {
+                    items.add(Item.rejected(customerId, "Customer not found"));
+                    continue;
+                }
+
+                if (waitlisted) {
+                    items.add(Item.rejected(customerId, "Event sold out"));
+                    continue;
+                }
+
+                try {
+                    items.add(Item.reserved(customerId, event.reserveTicket(aCustomerId).getEventTicketId().value()));
+                    reserved = true;
+                } catch (ValidationException ex) {
+                    items.add(Item.rejected(customerId, ex.getMessage()));
+                }
+            }
+
+            try {
+                if (reserved) {
+                    abandonIfInterrupted();
+                    eventRepository.update(event);
+                }
+
+                return new Output(eventId.value(), Instant.now(), items);
+            } catch (ValidationException | ConcurrencyException ex) {
+                // The update found fewer seats or a newer event than the ones loaded: reload and decide again
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    public record Input(String eventId, List<String> customerIds) {}
+
+    public record Output(String eventId, Instant reservationDate, List<Item> items) {}
+
+    public record Item(String customerId, String eventTicketId, String error) {
+
+        public static Item reserved(final String customerId, final String eventTicketId) {
+            return new Item(customerId, eventTicketId, null);
+        }
+
+        public static Item rejected(final String customerId, final String error) {
+            return new Item(customerId, null, error);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.domain.event.EventId;
+
+// Runs PromoteWaitlistUseCase for an event later, once the work that noticed its free seats has committed. The
+// infrastructure batches and retries them; none() drops them, for callers without one, such as the tests.
+public interface WaitlistPromotions {
+
+    void schedule(EventId anEventId);
+
+    static WaitlistPromotions none() {
+        return anEventId -> {};
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.UnitOfWork;
+import br.com.fullcycle.application.UseCase;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Expires a batch of unpaid holds, one event at a time: its tickets are marked EXPIRED and their seats given back in
+// one unit of work, so neither happens without the other. The status only changes on tickets still PENDING at that
+// point; a ticket paid in the meantime is left alone and keeps its seat.
+public class ExpireTicketHoldsUseCase
+        extends UseCase<ExpireTicketHoldsUseCase.Input, ExpireTicketHoldsUseCase.Output> {
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final UnitOfWork unitOfWork;
+
+    public ExpireTicketHoldsUseCase(final TicketRepository ticketRepository, final EventRepository eventRepository) {
+        this(ticketRepository, eventRepository, UnitOfWork.none());
+    }
+
+    public ExpireTicketHoldsUseCase(
+            final TicketRepository ticketRepository,
+            final EventRepository eventRepository,
+            final UnitOfWork unitOfWork
+    ) {
+        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var ticketIds = input.ticketIds().stream()
+                .map(TicketId::with)
+                .collect(Collectors.toSet());
+
+        final var byEvent = new LinkedHashMap<EventId, List<Ticket>>();
+        for (final var ticket : ticketRepository.ticketsOfIds(ticketIds)) {
+            if (ticket.getStatus() == TicketStatus.PENDING) {
+                byEvent.computeIfAbsent(ticket.getEventId(), it -> new ArrayList<>()).add(ticket);
+            }
+        }
+
+        final var expired = new ArrayList<Ticket>();
+        final var retry = new ArrayList<String>();
+
+        byEvent.forEach((eventId, tickets) -> {
+            try {
+                expired.addAll(unitOfWork.execute(() -> expire(eventId, tickets)));
+            } catch (ConcurrencyException ex) {
+                tickets.forEach(it -> retry.add(it.getTicketId().value()));
+            }
+        });
+
+        return new Output(
+                expired.stream().map(it -> it.getTicketId().value()).toList(),
+                retry
+        );
+    }
+
+    private List<Ticket> expire(final EventId eventId, final List<Ticket> tickets) {
+        final var expired = ticketRepository.expirePending(
+                tickets.stream().map(Ticket::getTicketId).collect(Collectors.toSet())
+        );
+
+        if (!expired.isEmpty()) {
+            release(eventId, expired);
+        }
+
+        return expired;
+    }
+
+    // A seat already gone from the event (released before, or never written) is not an error: the ticket still expires
+    private void release(final EventId eventId, final List<Ticket> tickets) {
+        final Set<CustomerId> customerIds = tickets.stream()
+                .map(Ticket::getCustomerId)
+                .collect(Collectors.toSet());
+
+        final var event = eventRepository.eventForReservation(eventId, customerIds);
+
+        if (event.isEmpty()) {
+            return;
+        }
+
+        var released = false;
+
+        for (final var customerId : customerIds) {
+            try {
+                event.get().releaseTicket(customerId);
+                released = true;
+            } catch (ValidationException ex) {
+                // nothing to give back for this customer
+            }
+        }
+
+        if (released) {
+            eventRepository.update(event.get());
+        }
+    }
+
+    public record Input(List<String> ticketIds) {}
+
+    public record Output(List<String> expiredTicketIds, List<String> retryTicketIds) {}
+}
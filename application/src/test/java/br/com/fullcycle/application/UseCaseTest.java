@@ -0,0 +1,119 @@
+package br.com.fullcycle.application;
+
+import br.com.fullcycle.application.partner.CreatePartnerUseCase;
+import br.com.fullcycle.application.repository.InMemoryPartnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class UseCaseTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        UseCaseExecutor.use(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UseCaseExecutor.use(ForkJoinPool.commonPool());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve executar o caso de uso de forma assíncrona e apresentar a saída e os erros")
+    public void testExecuteAsyncWithPresenter() throws Exception {
+        // given
+        final var input = new CreatePartnerUseCase.Input("00.001.001/0001-50", "john.doe@mail.com", "John Doe");
+        final var useCase = new CreatePartnerUseCase(new InMemoryPartnerRepository());
+        final var presenter = new Presenter<CreatePartnerUseCase.Output, String>() {
+            @Override
+            public String present(final CreatePartnerUseCase.Output output) {
+                return "created " + output.cnpj();
+            }
+
+            @Override
+            public String present(final Throwable error) {
+                return "failed: " + error.getMessage();
+            }
+        };
+
+        // when
+        final var actualCreated = useCase.executeAsync(input, Duration.ofSeconds(5), presenter).get(5, TimeUnit.SECONDS);
+        final var actualDuplicated = presenter.presentAsync(useCase.executeAsync(input)).get(5, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertEquals("created 00.001.001/0001-50", actualCreated);
+        Assertions.assertEquals("failed: Partner already exists", actualDuplicated);
+    }
+
+    @Test
+    @DisplayName("Deve interromper o caso de uso quando o prazo expira")
+    public void testTimeoutInterruptsExecution() throws Exception {
+        // given
+        final var interrupted = new CountDownLatch(1);
+        final var useCase = new BlockingUseCase(interrupted);
+
+        // when
+        final var future = useCase.executeAsync("input", Duration.ofMillis(50));
+        final var actualError = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        // then
+        Assertions.assertInstanceOf(TimeoutException.class, actualError.getCause());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve interromper o caso de uso quando a execução é cancelada")
+    public void testCancelInterruptsExecution() throws Exception {
+        // given
+        final var interrupted = new CountDownLatch(1);
+        final var useCase = new BlockingUseCase(interrupted);
+        final var future = useCase.executeAsync("input");
+        Assertions.assertTrue(useCase.started.await(5, TimeUnit.SECONDS));
+
+        // when
+        final var actualCancelled = future.cancel(true);
+
+        // then
+        Assertions.assertTrue(actualCancelled);
+        Assertions.assertTrue(future.isCancelled());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static class BlockingUseCase extends UseCase<String, String> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted;
+
+        private BlockingUseCase(final CountDownLatch interrupted) {
+            this.interrupted = interrupted;
+        }
+
+        @Override
+        public String execute(final String input) {
+            started.countDown();
+
+            try {
+                TimeUnit.SECONDS.sleep(30);
+                return input;
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw new IllegalStateException("Interrupted", ex);
+            }
+        }
+    }
+}
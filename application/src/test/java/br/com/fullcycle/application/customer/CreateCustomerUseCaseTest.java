@@ -13,7 +13,7 @@ public class CreateCustomerUseCaseTest {
     @DisplayName("Deve criar um cliente")
     public void testCreateCustomer() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -35,7 +35,7 @@ public class CreateCustomerUseCaseTest {
     @DisplayName("Não deve cadastrar um cliente com CPF duplicado")
     public void testCreateWithDuplicatedCPFShouldFail() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Customer already exists";
@@ -59,7 +59,7 @@ public class CreateCustomerUseCaseTest {
     @DisplayName("Não deve cadastrar um cliente com e-mail duplicado")
     public void testCreateWithDuplicatedEmailShouldFail() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Customer already exists";
@@ -14,7 +14,7 @@ class GetCustomerByIdUseCaseTest {
     @DisplayName("Deve obter um cliente por id")
     public void testGetById() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -15,7 +15,7 @@ class CreateEventUseCaseTest {
     @DisplayName("Deve criar um evento")
     public void testCreateEvent() throws Exception {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
 
         final var expectedDate = "2021-01-01";
         final var expectedName = "Disney on Ice";
@@ -0,0 +1,189 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.application.repository.InMemoryWaitlistRepository;
+import br.com.fullcycle.domain.Fixtures;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class GroupCommitSubscribeCustomerToEventUseCaseTest {
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento sem outras inscrições concorrentes")
+    public void testReserveTicketAlone() throws Exception {
+        // given
+        final var expectedTicketsSize = 1;
+        final var expectedCommits = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        // when
+        final var useCase = newUseCase(customerRepository, eventRepository, Duration.ZERO, 16);
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(anEvent.getEventId().value(), output.eventId());
+        Assertions.assertNotNull(output.eventTicketId());
+        Assertions.assertEquals(expectedCommits, useCase.getCommits());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTicketsSize, actualEvent.getAllTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve reservar inscrições concorrentes do mesmo evento em uma única atualização")
+    public void testConcurrentReservationsShareOneUpdate() throws Exception {
+        // given
+        final var customers = 8;
+        final var expectedCommits = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        eventRepository.create(anEvent);
+
+        final var inputs = newInputs(customerRepository, anEvent, customers);
+
+        // when
+        final var useCase = newUseCase(customerRepository, eventRepository, Duration.ofSeconds(5), customers);
+        final var outputs = executeConcurrently(useCase, inputs);
+
+        // then
+        Assertions.assertEquals(customers, outputs.size());
+        Assertions.assertEquals(expectedCommits, useCase.getCommits());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        final var actualOrderings = actualEvent.getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(
+                IntStream.rangeClosed(1, customers).boxed().collect(Collectors.toSet()),
+                actualOrderings
+        );
+    }
+
+    @Test
+    @DisplayName("Deve recusar apenas as inscrições que excedem as vagas do evento no mesmo lote")
+    public void testReserveTicketsBeyondTotalSpotsInOneBatch() throws Exception {
+        // given
+        final var customers = 3;
+        final var expectedTotalSpots = 2;
+        final var expectedError = "Event sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        eventRepository.create(anEvent);
+
+        final var inputs = newInputs(customerRepository, anEvent, customers);
+        final var errors = new ArrayList<Throwable>();
+
+        // when
+        final var useCase = newUseCase(customerRepository, eventRepository, Duration.ofSeconds(5), customers);
+        final var executor = Executors.newFixedThreadPool(customers);
+        try {
+            inputs.stream()
+                    .map(it -> CompletableFuture.supplyAsync(() -> useCase.execute(it), executor))
+                    .toList()
+                    .forEach(it -> {
+                        try {
+                            it.join();
+                        } catch (CompletionException ex) {
+                            errors.add(ex.getCause());
+                        }
+                    });
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Assertions.assertEquals(1, errors.size());
+        Assertions.assertInstanceOf(ValidationException.class, errors.get(0));
+        Assertions.assertEquals(expectedError, errors.get(0).getMessage());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+    }
+
+    private static GroupCommitSubscribeCustomerToEventUseCase newUseCase(
+            final InMemoryCustomerRepository customerRepository,
+            final InMemoryEventRepository eventRepository,
+            final Duration window,
+            final int maxBatchSize
+    ) {
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        return new GroupCommitSubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                waitlistRepository,
+                new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, waitlistRepository),
+                window,
+                maxBatchSize
+        );
+    }
+
+    private static List<SubscribeCustomerToEventUseCase.Input> newInputs(
+            final InMemoryCustomerRepository customerRepository,
+            final Event anEvent,
+            final int customers
+    ) {
+        final var inputs = new ArrayList<SubscribeCustomerToEventUseCase.Input>(customers);
+        for (int i = 0; i < customers; i++) {
+            final var aCustomer = customerRepository.create(
+                    Customer.newCustomer("Customer " + i, Fixtures.cpf(i), "customer%d@mail.com".formatted(i))
+            );
+            inputs.add(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        }
+        return inputs;
+    }
+
+    private static List<SubscribeCustomerToEventUseCase.Output> executeConcurrently(
+            final GroupCommitSubscribeCustomerToEventUseCase useCase,
+            final List<SubscribeCustomerToEventUseCase.Input> inputs
+    ) {
+        final var executor = Executors.newFixedThreadPool(inputs.size());
+        try {
+            return inputs.stream()
+                    .map(it -> CompletableFuture.supplyAsync(() -> useCase.execute(it), executor))
+                    .toList()
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.application.repository.InMemoryWaitlistRepository;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class JoinWaitlistUseCaseTest {
+
+    @Test
+    @DisplayName("Deve entrar na lista de espera de um evento esgotado")
+    public void testJoinWaitlist() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        anEvent.reserveTicket(john.getCustomerId());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        customerRepository.create(john);
+        customerRepository.create(jane);
+        eventRepository.create(anEvent);
+
+        final var input = new JoinWaitlistUseCase.Input(anEvent.getEventId().value(), jane.getCustomerId().value());
+
+        // when
+        final var useCase = new JoinWaitlistUseCase(customerRepository, eventRepository, waitlistRepository, WaitlistPromotions.none());
+        final var output = useCase.execute(input);
+
+        // then
+        Assertions.assertNotNull(output.id());
+        Assertions.assertNotNull(output.joinedAt());
+        Assertions.assertEquals(anEvent.getEventId().value(), output.eventId());
+        Assertions.assertEquals(jane.getCustomerId().value(), output.customerId());
+        Assertions.assertTrue(waitlistRepository.entryOf(anEvent.getEventId(), jane.getCustomerId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Não deve entrar na lista de espera de um evento com vagas")
+    public void testJoinWaitlistWithSpotsLeft() throws Exception {
+        // given
+        final var expectedError = "Event not sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var input = new JoinWaitlistUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        // when
+        final var useCase = new JoinWaitlistUseCase(customerRepository, eventRepository, waitlistRepository, WaitlistPromotions.none());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve entrar duas vezes na lista de espera do mesmo evento")
+    public void testJoinWaitlistTwice() throws Exception {
+        // given
+        final var expectedError = "Customer already on the waitlist";
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        anEvent.reserveTicket(john.getCustomerId());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        customerRepository.create(john);
+        customerRepository.create(jane);
+        eventRepository.create(anEvent);
+
+        final var input = new JoinWaitlistUseCase.Input(anEvent.getEventId().value(), jane.getCustomerId().value());
+        final var useCase = new JoinWaitlistUseCase(customerRepository, eventRepository, waitlistRepository, WaitlistPromotions.none());
+        useCase.execute(input);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve agendar uma promoção ao entrar na lista de espera de um evento com vagas")
+    public void testJoinWaitlistWithSpotsLeftSchedulesPromotion() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+        final var scheduled = new ArrayList<EventId>();
+
+        customerRepository.create(john);
+        customerRepository.create(jane);
+        eventRepository.create(anEvent);
+        waitlistRepository.create(WaitlistEntry.newEntry(anEvent.getEventId(), john.getCustomerId()));
+
+        final var input = new JoinWaitlistUseCase.Input(anEvent.getEventId().value(), jane.getCustomerId().value());
+
+        // when
+        final var useCase = new JoinWaitlistUseCase(customerRepository, eventRepository, waitlistRepository, scheduled::add);
+        useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(List.of(anEvent.getEventId()), scheduled);
+        Assertions.assertTrue(waitlistRepository.entryOf(anEvent.getEventId(), jane.getCustomerId()).isPresent());
+    }
+}
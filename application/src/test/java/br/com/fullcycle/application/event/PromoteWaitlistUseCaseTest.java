@@ -0,0 +1,110 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.application.repository.InMemoryWaitlistRepository;
+import br.com.fullcycle.domain.Fixtures;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntryId;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+class PromoteWaitlistUseCaseTest {
+
+    @Test
+    @DisplayName("Deve promover os primeiros da lista de espera para as vagas liberadas")
+    public void testPromoteWaitlist() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        final var mary = Customer.newCustomer("Mary Doe", "123.456.787-39", "mary.doe@mail.com");
+        final var bob = Customer.newCustomer("Bob Doe", "123.456.786-58", "bob.doe@mail.com");
+        anEvent.reserveTicket(john.getCustomerId());
+        anEvent.reserveTicket(jane.getCustomerId());
+        anEvent.releaseTicket(john.getCustomerId());
+        anEvent.releaseTicket(jane.getCustomerId());
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        eventRepository.create(anEvent);
+
+        final var joinedAt = Instant.parse("2021-01-01T10:00:00Z");
+        final var bobEntry = waitlistRepository.create(newEntry(anEvent, bob, joinedAt.plusSeconds(2)));
+        final var maryEntry = waitlistRepository.create(newEntry(anEvent, mary, joinedAt.plusSeconds(1)));
+        final var lateEntry = waitlistRepository.create(newEntry(anEvent, john, joinedAt.plusSeconds(3)));
+
+        final var expectedSoldCount = 2;
+
+        // when
+        final var useCase = new PromoteWaitlistUseCase(eventRepository, waitlistRepository);
+        final var output = useCase.execute(new PromoteWaitlistUseCase.Input(anEvent.getEventId().value()));
+
+        // then
+        Assertions.assertEquals(
+                List.of(mary.getCustomerId().value(), bob.getCustomerId().value()),
+                output.promoted().stream().map(PromoteWaitlistUseCase.Item::customerId).toList()
+        );
+        Assertions.assertFalse(output.hasMore());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedSoldCount, actualEvent.getSoldCount());
+
+        Assertions.assertEquals(List.of(lateEntry), waitlistRepository.nextOf(anEvent.getEventId(), 10));
+        Assertions.assertFalse(waitlistRepository.nextOf(anEvent.getEventId(), 10).contains(maryEntry));
+        Assertions.assertFalse(waitlistRepository.nextOf(anEvent.getEventId(), 10).contains(bobEntry));
+    }
+
+    @Test
+    @DisplayName("Deve promover a lista de espera em lotes")
+    public void testPromoteWaitlistInBatches() throws Exception {
+        // given
+        final var customers = 3;
+        final var batchSize = 2;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        eventRepository.create(anEvent);
+
+        final var joinedAt = Instant.parse("2021-01-01T10:00:00Z");
+        for (int i = 0; i < customers; i++) {
+            final var aCustomer = Customer.newCustomer(
+                    "Customer " + i, Fixtures.cpf(i), "customer%d@mail.com".formatted(i)
+            );
+            waitlistRepository.create(newEntry(anEvent, aCustomer, joinedAt.plusSeconds(i)));
+        }
+
+        final var input = new PromoteWaitlistUseCase.Input(anEvent.getEventId().value());
+        final var useCase = new PromoteWaitlistUseCase(eventRepository, waitlistRepository, batchSize, 1);
+
+        // when
+        final var first = useCase.execute(input);
+        final var second = useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(batchSize, first.promoted().size());
+        Assertions.assertTrue(first.hasMore());
+        Assertions.assertEquals(customers - batchSize, second.promoted().size());
+        Assertions.assertFalse(second.hasMore());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(customers, actualEvent.getSoldCount());
+        Assertions.assertTrue(waitlistRepository.nextOf(anEvent.getEventId(), 10).isEmpty());
+    }
+
+    private static WaitlistEntry newEntry(final Event anEvent, final Customer aCustomer, final Instant joinedAt) {
+        return new WaitlistEntry(WaitlistEntryId.unique(), anEvent.getEventId(), aCustomer.getCustomerId(), joinedAt);
+    }
+}
@@ -3,17 +3,27 @@ package br.com.fullcycle.application.event;
 import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
 import br.com.fullcycle.application.repository.InMemoryEventRepository;
 import br.com.fullcycle.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.application.repository.InMemoryWaitlistRepository;
 import br.com.fullcycle.domain.customer.Customer;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.domain.partner.Partner;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class SubscribeCustomerToEventUseCaseTest {
 
     @Test
@@ -22,9 +32,9 @@ class SubscribeCustomerToEventUseCaseTest {
         // given
         final var expectedTicketsSize = 1;
 
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
 
         final var customerId = aCustomer.getCustomerId().value();
         final var eventId = anEvent.getEventId().value();
@@ -38,7 +48,7 @@ class SubscribeCustomerToEventUseCaseTest {
         eventRepository.create(anEvent);
 
         // when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
         final var output = useCase.execute(subscribeInput);
 
         // then
@@ -49,13 +59,50 @@ class SubscribeCustomerToEventUseCaseTest {
         Assertions.assertEquals(expectedTicketsSize, actualEvent.get().getAllTickets().size());
     }
 
+    @Test
+    @DisplayName("Não deve gravar a reserva quando a execução já foi interrompida")
+    public void testReserveTicketAbandonedWhenInterrupted() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        final var updates = new AtomicInteger();
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository() {
+            @Override
+            public Event update(final Event event) {
+                updates.incrementAndGet();
+                return super.update(event);
+            }
+        };
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
+
+        // when
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(CancellationException.class, () -> useCase.execute(subscribeInput));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        Assertions.assertEquals(0, updates.get());
+    }
+
     @Test
     @DisplayName("Não deve comprar um ticket de um evento que não existe")
     public void testReserveTicketWithoutEvent() throws Exception {
         // given
         final var expectedError = "Event not found";
 
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
 
         final var customerId = aCustomer.getCustomerId().value();
         final var eventId = EventId.unique().value();
@@ -68,7 +115,7 @@ class SubscribeCustomerToEventUseCaseTest {
         customerRepository.create(aCustomer);
 
         // when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         // then
@@ -81,7 +128,7 @@ class SubscribeCustomerToEventUseCaseTest {
         // given
         final var expectedError = "Customer not found";
 
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
 
         final var customerId = CustomerId.unique().value();
@@ -95,7 +142,7 @@ class SubscribeCustomerToEventUseCaseTest {
         eventRepository.create(anEvent);
 
         // when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         // then
@@ -108,9 +155,9 @@ class SubscribeCustomerToEventUseCaseTest {
         // given
         final var expectedError = "Email already registered";
 
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
 
         final var customerId = aCustomer.getCustomerId().value();
         final var eventId = anEvent.getEventId().value();
@@ -126,7 +173,7 @@ class SubscribeCustomerToEventUseCaseTest {
         final var ticket = anEvent.reserveTicket(aCustomer.getCustomerId());
 
         // when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         // then
@@ -139,10 +186,10 @@ class SubscribeCustomerToEventUseCaseTest {
         // given
         final var expectedError = "Event sold out";
 
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
-        final var anotherCustomer = Customer.newCustomer("Jane Doe", "123.456.789-02", "jane.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anotherCustomer = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
 
         final var customerId = aCustomer.getCustomerId().value();
         final var eventId = anEvent.getEventId().value();
@@ -159,10 +206,137 @@ class SubscribeCustomerToEventUseCaseTest {
         final var ticket = anEvent.reserveTicket(anotherCustomer.getCustomerId());
 
         // when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente a reserva quando o evento foi alterado concorrentemente")
+    public void testReserveTicketRetriesOnConflict() throws Exception {
+        // given
+        final var expectedTicketsSize = 1;
+        final var expectedConflicts = 1;
+        final var expectedRetries = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new ConflictingEventRepository(1);
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        // when
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository(), 3, Duration.ZERO);
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(anEvent.getEventId().value(), output.eventId());
+        Assertions.assertEquals(expectedConflicts, useCase.getConflicts());
+        Assertions.assertEquals(expectedRetries, useCase.getRetries());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId());
+        Assertions.assertEquals(expectedTicketsSize, actualEvent.get().getSoldCount());
+    }
+
+    @Test
+    @DisplayName("Deve desistir da reserva depois de esgotar as tentativas")
+    public void testReserveTicketGivesUpAfterMaxAttempts() throws Exception {
+        // given
+        final var expectedConflicts = 2;
+        final var expectedRetries = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new ConflictingEventRepository(Integer.MAX_VALUE);
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        // when
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository(), 2, Duration.ZERO);
+
+        Assertions.assertThrows(ConcurrencyException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedConflicts, useCase.getConflicts());
+        Assertions.assertEquals(expectedRetries, useCase.getRetries());
+    }
+
+    // Hands out detached copies like a database would and fails the first updates with a version conflict
+    private static class ConflictingEventRepository extends InMemoryEventRepository {
+
+        private int conflicts;
+
+        private ConflictingEventRepository(final int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @Override
+        public Optional<Event> eventForReservation(EventId anId, Set<CustomerId> customerIds) {
+            return eventOfId(anId).map(it -> Event.restore(
+                    it.getEventId().value(),
+                    it.getName().value(),
+                    it.getDate().toString(),
+                    it.getTotalSpots(),
+                    it.getPartnerId().value(),
+                    it.getSoldCount(),
+                    new HashSet<>(),
+                    it.getVersion()
+            ));
+        }
+
+        @Override
+        public Event update(Event event) {
+            if (conflicts > 0) {
+                conflicts--;
+                throw new ConcurrencyException("Event was changed concurrently");
+            }
+            return super.update(event);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve comprar um ticket de um evento com fila de espera")
+    public void testReserveTicketWithWaitlist() throws Exception {
+        // given
+        final var expectedError = "Event sold out";
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+        final var waitlistRepository = new InMemoryWaitlistRepository();
+
+        customerRepository.create(john);
+        eventRepository.create(anEvent);
+        waitlistRepository.create(WaitlistEntry.newEntry(anEvent.getEventId(), jane.getCustomerId()));
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), john.getCustomerId().value());
+
+        // when
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, waitlistRepository);
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         // then
         Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertTrue(eventRepository.eventOfId(anEvent.getEventId()).get().getAllTickets().isEmpty());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package br.com.fullcycle.application.event;
+
+import br.com.fullcycle.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.application.repository.InMemoryWaitlistRepository;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class SubscribeCustomersToEventUseCaseTest {
+
+    @Test
+    @DisplayName("Deve comprar tickets de um evento para vários clientes")
+    public void testReserveTickets() throws Exception {
+        // given
+        final var expectedTicketsSize = 2;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+
+        customerRepository.create(john);
+        customerRepository.create(jane);
+        eventRepository.create(anEvent);
+
+        final var subscribeInput = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.getEventId().value(),
+                List.of(john.getCustomerId().value(), jane.getCustomerId().value())
+        );
+
+        // when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(anEvent.getEventId().value(), output.eventId());
+        Assertions.assertNotNull(output.reservationDate());
+        Assertions.assertEquals(expectedTicketsSize, output.items().size());
+        output.items().forEach(it -> {
+            Assertions.assertNotNull(it.eventTicketId());
+            Assertions.assertNull(it.error());
+        });
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTicketsSize, actualEvent.getAllTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve informar o resultado de cada cliente ao comprar tickets em lote")
+    public void testReserveTicketsReportsEachItem() throws Exception {
+        // given
+        final var expectedTicketsSize = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        final var unknownId = CustomerId.unique().value();
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+
+        customerRepository.create(john);
+        customerRepository.create(jane);
+        eventRepository.create(anEvent);
+
+        final var subscribeInput = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.getEventId().value(),
+                List.of(john.getCustomerId().value(), john.getCustomerId().value(), unknownId, jane.getCustomerId().value())
+        );
+
+        // when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        final var items = output.items();
+        Assertions.assertNotNull(items.get(0).eventTicketId());
+        Assertions.assertEquals("Email already registered", items.get(1).error());
+        Assertions.assertEquals("Customer not found", items.get(2).error());
+        Assertions.assertEquals(unknownId, items.get(2).customerId());
+        Assertions.assertEquals("Event sold out", items.get(3).error());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTicketsSize, actualEvent.getAllTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve comprar tickets em lote de um evento que não existe")
+    public void testReserveTicketsWithoutEvent() throws Exception {
+        // given
+        final var expectedError = "Event not found";
+
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+
+        customerRepository.create(aCustomer);
+
+        final var subscribeInput = new SubscribeCustomersToEventUseCase.Input(
+                EventId.unique().value(),
+                List.of(aCustomer.getCustomerId().value())
+        );
+
+        // when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository, new InMemoryWaitlistRepository());
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+}
@@ -13,7 +13,7 @@ public class CreatePartnerUseCaseTest {
     @DisplayName("Deve criar um parceiro")
     public void testCreatePartner() {
         // given
-        final var expectedCNPJ = "00.001.001/0001-72";
+        final var expectedCNPJ = "00.001.001/0001-50";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -35,7 +35,7 @@ public class CreatePartnerUseCaseTest {
     @DisplayName("Não deve cadastrar um parceiro com CNPJ duplicado")
     public void testCreateWithDuplicatedCNPJShouldFail() {
         // given
-        final var expectedCNPJ = "00.001.001/0001-72";
+        final var expectedCNPJ = "00.001.001/0001-50";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Partner already exists";
@@ -59,12 +59,12 @@ public class CreatePartnerUseCaseTest {
     @DisplayName("Não deve cadastrar um parceiro com e-mail duplicado")
     public void testCreateWithDuplicatedEmailShouldFail() {
         // given
-        final var expectedCNPJ = "00.001.001/0001-72";
+        final var expectedCNPJ = "00.001.001/0001-50";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Partner already exists";
 
-        final var aPartner = Partner.newPartner(expectedName, "00.001.001/0002-72", expectedEmail);
+        final var aPartner = Partner.newPartner(expectedName, "00.001.001/0002-31", expectedEmail);
 
         final var partnerRepository = new InMemoryPartnerRepository();
         partnerRepository.create(aPartner);
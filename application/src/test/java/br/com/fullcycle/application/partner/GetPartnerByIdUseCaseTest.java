@@ -14,7 +14,7 @@ class GetPartnerByIdUseCaseTest {
     @DisplayName("Deve criar um parceiro")
     public void testGetById() {
         // given
-        final var expectedCNPJ = "00.001.001/0001-01";
+        final var expectedCNPJ = "00.001.002/0001-03";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
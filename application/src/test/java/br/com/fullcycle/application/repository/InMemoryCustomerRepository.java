@@ -7,9 +7,11 @@ import br.com.fullcycle.domain.person.Cpf;
 import br.com.fullcycle.domain.person.Email;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class InMemoryCustomerRepository implements CustomerRepository {
 
@@ -28,6 +30,14 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         return Optional.ofNullable(this.customers.get(Objects.requireNonNull(anId).value()));
     }
 
+    @Override
+    public List<Customer> customersOfIds(Set<CustomerId> customerIds) {
+        return customerIds.stream()
+                .map(it -> this.customers.get(it.value()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public Optional<Customer> customerOfCPF(Cpf cpf) {
         return Optional.ofNullable(this.customersByCPF.get(cpf.value()));
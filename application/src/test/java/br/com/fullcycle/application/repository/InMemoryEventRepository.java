@@ -1,5 +1,6 @@
 package br.com.fullcycle.application.repository;
 
+import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventRepository;
@@ -8,6 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class InMemoryEventRepository implements EventRepository {
 
@@ -22,6 +24,11 @@ public class InMemoryEventRepository implements EventRepository {
         return Optional.ofNullable(this.events.get(Objects.requireNonNull(anId).value()));
     }
 
+    @Override
+    public Optional<Event> eventForReservation(EventId anId, Set<CustomerId> customerIds) {
+        return eventOfId(anId);
+    }
+
     @Override
     public Event create(Event event) {
         this.events.put(event.getEventId().value(), event);
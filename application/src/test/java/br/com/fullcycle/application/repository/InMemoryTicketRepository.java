@@ -3,11 +3,14 @@ package br.com.fullcycle.application.repository;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class InMemoryTicketRepository implements TicketRepository {
 
@@ -22,6 +25,14 @@ public class InMemoryTicketRepository implements TicketRepository {
         return Optional.ofNullable(this.tickets.get(Objects.requireNonNull(anId).value()));
     }
 
+    @Override
+    public List<Ticket> ticketsOfIds(Set<TicketId> ticketIds) {
+        return ticketIds.stream()
+                .map(it -> this.tickets.get(it.value()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public Ticket create(Ticket ticket) {
         this.tickets.put(ticket.getTicketId().value(), ticket);
@@ -34,6 +45,15 @@ public class InMemoryTicketRepository implements TicketRepository {
         return ticket;
     }
 
+    @Override
+    public List<Ticket> expirePending(Set<TicketId> ticketIds) {
+        return ticketIds.stream()
+                .map(it -> this.tickets.get(it.value()))
+                .filter(it -> it != null && it.getStatus() == TicketStatus.PENDING)
+                .map(Ticket::expire)
+                .toList();
+    }
+
     @Override
     public void deleteAll() {
         this.tickets.clear();
@@ -0,0 +1,66 @@
+package br.com.fullcycle.application.repository;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryWaitlistRepository implements WaitlistRepository {
+
+    private final List<WaitlistEntry> entries;
+
+    public InMemoryWaitlistRepository() {
+        this.entries = new ArrayList<>();
+    }
+
+    @Override
+    public Optional<WaitlistEntry> entryOf(EventId anEventId, CustomerId aCustomerId) {
+        return this.entries.stream()
+                .filter(it -> it.getEventId().equals(anEventId) && it.getCustomerId().equals(aCustomerId))
+                .findFirst();
+    }
+
+    @Override
+    public boolean hasWaiting(EventId anEventId) {
+        return this.entries.stream().anyMatch(it -> it.getEventId().equals(anEventId));
+    }
+
+    @Override
+    public List<WaitlistEntry> nextOf(EventId anEventId, int limit) {
+        return this.entries.stream()
+                .filter(it -> it.getEventId().equals(anEventId))
+                .sorted(WaitlistEntry.ARRIVAL_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    // No counters to look at here, so every event waited for
+    @Override
+    public List<EventId> eventsWithFreeSeats(int limit) {
+        return this.entries.stream()
+                .map(WaitlistEntry::getEventId)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public WaitlistEntry create(WaitlistEntry entry) {
+        this.entries.add(entry);
+        return entry;
+    }
+
+    @Override
+    public void removeAll(List<WaitlistEntry> entries) {
+        this.entries.removeAll(entries);
+    }
+
+    @Override
+    public void deleteAll() {
+        this.entries.clear();
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.fullcycle.application.ticket;
+
+import br.com.fullcycle.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.application.repository.InMemoryTicketRepository;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.ticket.Ticket;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+class ExpireTicketHoldsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve expirar tickets pendentes e liberar as vagas do evento")
+    public void testExpireTicketHolds() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner);
+        anEvent.reserveTicket(john.getCustomerId());
+        anEvent.reserveTicket(jane.getCustomerId());
+
+        final var johnTicket = Ticket.newTicket(john.getCustomerId(), anEvent.getEventId());
+        final var janeTicket = Ticket.newTicket(jane.getCustomerId(), anEvent.getEventId());
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        eventRepository.create(anEvent);
+        ticketRepository.create(johnTicket);
+        ticketRepository.create(janeTicket);
+
+        final var expectedSoldCount = 0;
+        final var expectedStatus = TicketStatus.EXPIRED;
+
+        final var input = new ExpireTicketHoldsUseCase.Input(
+                List.of(johnTicket.getTicketId().value(), janeTicket.getTicketId().value())
+        );
+
+        // when
+        final var useCase = new ExpireTicketHoldsUseCase(ticketRepository, eventRepository);
+        final var output = useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(2, output.expiredTicketIds().size());
+        Assertions.assertTrue(output.retryTicketIds().isEmpty());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedSoldCount, actualEvent.getSoldCount());
+        Assertions.assertTrue(actualEvent.getAllTickets().isEmpty());
+
+        Assertions.assertEquals(expectedStatus, ticketRepository.ticketOfId(johnTicket.getTicketId()).get().getStatus());
+        Assertions.assertEquals(expectedStatus, ticketRepository.ticketOfId(janeTicket.getTicketId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve expirar um ticket já pago")
+    public void testExpireTicketHoldsSkipsPaidTicket() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        anEvent.reserveTicket(aCustomer.getCustomerId());
+
+        final var aTicket = new Ticket(
+                TicketId.unique(),
+                aCustomer.getCustomerId(),
+                anEvent.getEventId(),
+                TicketStatus.PAID,
+                Instant.now(),
+                Instant.now()
+        );
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository();
+
+        eventRepository.create(anEvent);
+        ticketRepository.create(aTicket);
+
+        final var expectedSoldCount = 1;
+
+        // when
+        final var useCase = new ExpireTicketHoldsUseCase(ticketRepository, eventRepository);
+        final var output = useCase.execute(new ExpireTicketHoldsUseCase.Input(List.of(aTicket.getTicketId().value())));
+
+        // then
+        Assertions.assertTrue(output.expiredTicketIds().isEmpty());
+        Assertions.assertEquals(TicketStatus.PAID, ticketRepository.ticketOfId(aTicket.getTicketId()).get().getStatus());
+        Assertions.assertEquals(expectedSoldCount, eventRepository.eventOfId(anEvent.getEventId()).get().getSoldCount());
+    }
+
+    @Test
+    @DisplayName("Não deve expirar nem liberar a vaga de um ticket pago depois de lido")
+    public void testExpireTicketHoldsSkipsTicketPaidMeanwhile() throws Exception {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        anEvent.reserveTicket(aCustomer.getCustomerId());
+
+        final var aTicketId = TicketId.unique();
+        final var aPaidTicket = new Ticket(
+                aTicketId, aCustomer.getCustomerId(), anEvent.getEventId(), TicketStatus.PAID, Instant.now(), Instant.now()
+        );
+
+        final var eventRepository = new InMemoryEventRepository();
+        final var ticketRepository = new InMemoryTicketRepository() {
+            @Override
+            public List<Ticket> ticketsOfIds(final Set<TicketId> ticketIds) {
+                // What was read before the payment landed
+                return List.of(new Ticket(
+                        aTicketId, aCustomer.getCustomerId(), anEvent.getEventId(), TicketStatus.PENDING, null, Instant.now()
+                ));
+            }
+        };
+
+        eventRepository.create(anEvent);
+        ticketRepository.create(aPaidTicket);
+
+        final var expectedSoldCount = 1;
+
+        // when
+        final var useCase = new ExpireTicketHoldsUseCase(ticketRepository, eventRepository);
+        final var output = useCase.execute(new ExpireTicketHoldsUseCase.Input(List.of(aTicketId.value())));
+
+        // then
+        Assertions.assertTrue(output.expiredTicketIds().isEmpty());
+        Assertions.assertEquals(TicketStatus.PAID, ticketRepository.ticketOfId(aTicketId).get().getStatus());
+        Assertions.assertEquals(expectedSoldCount, eventRepository.eventOfId(anEvent.getEventId()).get().getSoldCount());
+    }
+}
@@ -1,6 +1,13 @@
 plugins {
     `java-conventions`
     `java-library`
+    `java-test-fixtures`
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 group = "br.com.fullcycle.domain"
+
+jmh {
+    jmhVersion.set("1.37")
+    includeTests.set(false)
+}
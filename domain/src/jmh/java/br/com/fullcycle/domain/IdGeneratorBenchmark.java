@@ -0,0 +1,37 @@
+package br.com.fullcycle.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ids per second from 8 threads at once: {@link UUID#randomUUID()} serializes on its shared SecureRandom while
+ * UUIDv7 only shares one atomic counter.
+ *
+ * <pre>./gradlew :domain:jmh -Pjmh.includes=IdGeneratorBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Param({"random", "uuidv7"})
+    private String generator;
+
+    private IdGenerator ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.ids = "random".equals(generator) ? IdGenerator.random() : IdGenerator.uuidV7();
+    }
+
+    @Benchmark
+    public UUID next() {
+        return ids.next();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.fullcycle.domain.event;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.partner.PartnerId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Event#reserveTicket(CustomerId)} against events that already hold a growing number of tickets.
+ * The score should stay flat across {@code ticketCount}.
+ *
+ * <pre>./gradlew :domain:jmh</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventReserveTicketBenchmark {
+
+    @Param({"10", "1000", "10000", "40000"})
+    private int ticketCount;
+
+    private Event event;
+    private long next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final var eventId = EventId.unique();
+        final var tickets = new HashSet<EventTicket>(ticketCount * 2);
+
+        for (int i = 1; i <= ticketCount; i++) {
+            tickets.add(EventTicket.newTicket(eventId, CustomerId.unique(), i));
+        }
+
+        this.event = new Event(eventId, "Disney on Ice", "2021-01-01", Integer.MAX_VALUE, PartnerId.unique(), tickets);
+        this.next = 0;
+    }
+
+    @Benchmark
+    public EventTicket reserveTicket() {
+        // Cheap unique ids keep UUID generation out of the measurement
+        return event.reserveTicket(new CustomerId(0, next++));
+    }
+}
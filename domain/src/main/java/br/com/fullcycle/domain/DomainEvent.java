@@ -8,5 +8,8 @@ public interface DomainEvent {
 
     String type();
 
+    // Id of the aggregate that raised the event, events of the same aggregate are relayed in order
+    String aggregateId();
+
     Instant occurredOn();
 }
@@ -0,0 +1,42 @@
+package br.com.fullcycle.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Ordered buffer of the domain events raised by one aggregate instance. Every event is handed out by pull() exactly
+// once, so saving the same instance twice never writes an event twice. Across saves the outbox keeps them in order
+// by their time-ordered ids. Not thread-safe, like the aggregates holding it.
+public final class DomainEvents {
+
+    private final List<DomainEvent> pending;
+    private final List<DomainEvent> pendingView;
+
+    public DomainEvents() {
+        this.pending = new ArrayList<>(2);
+        this.pendingView = Collections.unmodifiableList(this.pending);
+    }
+
+    public void append(final DomainEvent domainEvent) {
+        if (domainEvent == null) {
+            throw new IllegalArgumentException("Domain event cannot be null");
+        }
+
+        this.pending.add(domainEvent);
+    }
+
+    // Drains the events not pulled yet, in the order they were raised
+    public List<DomainEvent> pull() {
+        if (this.pending.isEmpty()) {
+            return List.of();
+        }
+
+        final var drained = List.copyOf(this.pending);
+        this.pending.clear();
+        return drained;
+    }
+
+    public List<DomainEvent> pending() {
+        return pendingView;
+    }
+}
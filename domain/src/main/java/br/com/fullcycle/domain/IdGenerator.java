@@ -0,0 +1,19 @@
+package br.com.fullcycle.domain;
+
+import java.util.UUID;
+
+// Source of new aggregate and domain event ids, see Ids
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    // The old behaviour: version 4, backed by SecureRandom and spread over the whole key space
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator uuidV7() {
+        return new UuidV7Generator();
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fullcycle.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// Every unique() id and domain event id comes from here. Time-ordered UUIDv7 by default; the infrastructure may
+// plug another generator at startup, before any id is created. The generator is process-wide: every application
+// context in the JVM shares it.
+public final class Ids {
+
+    private static volatile IdGenerator generator = IdGenerator.uuidV7();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static String nextValue() {
+        return generator.next().toString();
+    }
+
+    public static void use(final IdGenerator anIdGenerator) {
+        generator = Objects.requireNonNull(anIdGenerator);
+    }
+
+    public static IdGenerator current() {
+        return generator;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.fullcycle.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 version 7: 48 bits of Unix milliseconds, then a 12 bit counter so ids created within the same
+// millisecond keep increasing, then 62 random bits. New rows land at the right edge of the primary key index.
+// The random part comes from ThreadLocalRandom rather than SecureRandom; ids are identifiers, not secrets.
+final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    // Milliseconds and counter packed as (millis << 12 | counter); a counter overflow borrows the next millisecond
+    private final AtomicLong last = new AtomicLong();
+
+    @Override
+    public UUID next() {
+        final var now = System.currentTimeMillis() << COUNTER_BITS;
+        final var stamp = last.updateAndGet(prev -> Math.max(now, prev + 1));
+
+        final var msb = (stamp >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (stamp & ((1L << COUNTER_BITS) - 1));
+
+        final var lsb = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+}
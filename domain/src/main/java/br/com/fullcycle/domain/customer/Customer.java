@@ -26,7 +26,9 @@ public class Customer {
     }
 
     public static Customer newCustomer(String name, String cpf, String email) {
-        return new Customer(CustomerId.unique(), name, cpf, email);
+        final var aCustomer = new Customer(CustomerId.unique(), name, cpf, email);
+        aCustomer.cpf.requireCheckDigits();
+        return aCustomer;
     }
 
     public CustomerId getCustomerId() {
@@ -1,26 +1,41 @@
 package br.com.fullcycle.domain.customer;
 
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record CustomerId(String value) {
+public record CustomerId(long mostSigBits, long leastSigBits) {
 
-    public CustomerId {
+    public static CustomerId unique() {
+        return of(Ids.next());
+    }
+
+    public static CustomerId with(final String value) {
         if (value == null) {
             throw new ValidationException("Invalid value for CustomerId");
         }
-    }
 
-    public static  CustomerId unique(){
-        return new CustomerId(UUID.randomUUID().toString());
-    }
-
-    public static CustomerId with(final String value) {
         try {
-            return new CustomerId(UUID.fromString(value).toString());
+            return of(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for CustomerId");
         }
     }
+
+    public static CustomerId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for CustomerId");
+        }
+
+        return new CustomerId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
 }
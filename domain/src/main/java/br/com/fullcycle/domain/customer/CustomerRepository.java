@@ -3,12 +3,16 @@ package br.com.fullcycle.domain.customer;
 import br.com.fullcycle.domain.person.Cpf;
 import br.com.fullcycle.domain.person.Email;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CustomerRepository {
 
     Optional<Customer> customerOfId(CustomerId anId);
 
+    List<Customer> customersOfIds(Set<CustomerId> customerIds);
+
     Optional<Customer> customerOfCPF(Cpf cpf);
 
     Optional<Customer> customerOfEmail(Email email);
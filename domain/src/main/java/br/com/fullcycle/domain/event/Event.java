@@ -1,6 +1,7 @@
 package br.com.fullcycle.domain.event;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.DomainEvents;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.exceptions.ValidationException;
@@ -10,8 +11,10 @@ import br.com.fullcycle.domain.person.Name;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -21,12 +24,19 @@ public class Event {
 
     private final EventId eventId;
     private final Set<EventTicket> tickets;
-    private final Set<DomainEvent> domainEvents;
+    private final Set<EventTicket> ticketsView;
+    private final List<EventTicket> newTickets;
+    private final List<EventTicket> releasedTickets;
+    private final Set<CustomerId> customers;
+    private final DomainEvents domainEvents;
 
     private Name name;
     private LocalDate date;
     private int totalSpots;
     private PartnerId partnerId;
+    private int soldCount;
+    private int issued;
+    private long version;
 
     public Event(
             final EventId eventId,
@@ -36,21 +46,41 @@ public class Event {
             final PartnerId partnerId,
             final Set<EventTicket> tickets
     ) {
-        this(eventId, tickets);
+        this(eventId, name, date, totalSpots, partnerId, tickets, tickets != null ? tickets.size() : 0);
+    }
+
+    private Event(
+            final EventId eventId,
+            final String name,
+            final String date,
+            final Integer totalSpots,
+            final PartnerId partnerId,
+            final Set<EventTicket> tickets,
+            final int soldCount
+    ) {
+        this(eventId, tickets, soldCount);
         this.setName(name);
         this.setDate(date);
         this.setTotalSpots(totalSpots);
         this.setPartnerId(partnerId);
     }
 
-    private Event(final EventId eventId, final Set<EventTicket> tickets) {
+    private Event(final EventId eventId, final Set<EventTicket> tickets, final int soldCount) {
         if (eventId == null) {
             throw new ValidationException("Invalid eventId for Event");
         }
 
         this.eventId = eventId;
         this.tickets = tickets != null ? tickets :new HashSet<>(0);
-        this.domainEvents = new HashSet<>(2);
+        this.ticketsView = Collections.unmodifiableSet(this.tickets);
+        this.newTickets = new ArrayList<>(1);
+        this.releasedTickets = new ArrayList<>(0);
+        this.customers = new HashSet<>(this.tickets.size() * 2);
+        this.domainEvents = new DomainEvents();
+
+        this.tickets.forEach(it -> this.customers.add(it.getCustomerId()));
+        this.setSoldCount(soldCount);
+        this.issued = this.tickets.stream().mapToInt(EventTicket::getOrdering).reduce(this.soldCount, Math::max);
     }
 
     public static Event newEvent(final String name, final String date, final Integer totalSpots, final Partner partner) {
@@ -63,28 +93,72 @@ public class Event {
             final String date,
             final int totalSpots,
             final String partnerId,
-            final Set<EventTicket> tickets
+            final Set<EventTicket> tickets,
+            final long version
     ) {
-        return new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets);
+        final var anEvent = new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets);
+        anEvent.version = version;
+        return anEvent;
+    }
+
+    /**
+     * Restores an event holding only part of its tickets, e.g. the ones of the customers being subscribed.
+     * The sold count still covers every ticket of the event.
+     */
+    public static Event restore(
+            final String id,
+            final String name,
+            final String date,
+            final int totalSpots,
+            final String partnerId,
+            final int soldCount,
+            final Set<EventTicket> tickets,
+            final long version
+    ) {
+        final var anEvent = new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets, soldCount);
+        anEvent.version = version;
+        return anEvent;
     }
 
     public EventTicket reserveTicket(final CustomerId customerId) {
-        this.getAllTickets().stream()
-                .filter(it ->  Objects.equals(it.getCustomerId(), customerId))
-                .findFirst()
-                .ifPresent(it -> {
-                    throw new ValidationException("Email already registered");
-                });
+        if (this.customers.contains(customerId)) {
+            throw new ValidationException("Email already registered");
+        }
 
-        if (this.getTotalSpots() < this.getAllTickets().size() + ONE) {
+        if (this.totalSpots < this.soldCount + ONE) {
             throw new ValidationException("Event sold out");
         }
 
-        final var aTicket =
-                EventTicket.newTicket(this.getEventId(), customerId, this.getAllTickets().size() + ONE);
+        // Numbered past every ticket handed out so far, released ones included, so a number is never given twice
+        final var aTicket = EventTicket.newTicket(this.eventId, customerId, this.issued + ONE);
 
         this.tickets.add(aTicket);
-        this.domainEvents.add(new EventTicketReserved(aTicket.getEventTicketId(), eventId, customerId));
+        this.newTickets.add(aTicket);
+        this.customers.add(customerId);
+        this.soldCount++;
+        this.issued++;
+        this.domainEvents.append(new EventTicketReserved(aTicket.getEventTicketId(), eventId, customerId));
+
+        return aTicket;
+    }
+
+    // Gives the seat of the customer back, e.g. when the hold on its ticket expired unpaid
+    public EventTicket releaseTicket(final CustomerId customerId) {
+        if (!this.customers.contains(customerId)) {
+            throw new ValidationException("Ticket not found");
+        }
+
+        final var aTicket = this.tickets.stream()
+                .filter(it -> it.getCustomerId().equals(customerId))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Ticket not found"));
+
+        this.tickets.remove(aTicket);
+        this.newTickets.remove(aTicket);
+        this.releasedTickets.add(aTicket);
+        this.customers.remove(customerId);
+        this.soldCount--;
+        this.domainEvents.append(new EventTicketReleased(aTicket.getEventTicketId(), eventId, customerId));
 
         return aTicket;
     }
@@ -109,12 +183,34 @@ public class Event {
         return partnerId;
     }
 
+    public int getSoldCount() {
+        return soldCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
     public Set<EventTicket> getAllTickets() {
-        return Collections.unmodifiableSet(tickets);
+        return ticketsView;
     }
 
-    public Set<DomainEvent> getAllDomainEvents() {
-        return Collections.unmodifiableSet(domainEvents);
+    public List<EventTicket> getNewTickets() {
+        return Collections.unmodifiableList(newTickets);
+    }
+
+    public List<EventTicket> getReleasedTickets() {
+        return Collections.unmodifiableList(releasedTickets);
+    }
+
+    // Events raised and not pulled yet, oldest first
+    public List<DomainEvent> getAllDomainEvents() {
+        return domainEvents.pending();
+    }
+
+    // Hands the pending events to whoever persists them; each one is returned once
+    public List<DomainEvent> pullDomainEvents() {
+        return domainEvents.pull();
     }
 
     @Override
@@ -153,6 +249,14 @@ public class Event {
         this.totalSpots = totalSpots;
     }
 
+    private void setSoldCount(final int soldCount) {
+        if (soldCount < this.tickets.size()) {
+            throw new ValidationException("Invalid soldCount for Event");
+        }
+
+        this.soldCount = soldCount;
+    }
+
     private void setPartnerId(final PartnerId partnerId) {
         if (partnerId == null) {
             throw new ValidationException("Invalid partnerId for Event");
@@ -1,26 +1,42 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record EventId(String value) {
+// The two halves of the UUID, so ids are compared, hashed and persisted without parsing or building strings
+public record EventId(long mostSigBits, long leastSigBits) {
 
-    public EventId {
+    public static EventId unique() {
+        return of(Ids.next());
+    }
+
+    public static EventId with(final String value) {
         if (value == null) {
             throw new ValidationException("Invalid value for EventId");
         }
-    }
 
-    public static  EventId unique(){
-        return new EventId(UUID.randomUUID().toString());
-    }
-
-    public static EventId with(final String value) {
         try {
-            return new EventId(UUID.fromString(value).toString());
+            return of(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for EventId");
         }
     }
+
+    public static EventId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for EventId");
+        }
+
+        return new EventId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
 }
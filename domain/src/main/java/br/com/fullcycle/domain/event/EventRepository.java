@@ -1,11 +1,20 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.customer.CustomerId;
+
 import java.util.Optional;
+import java.util.Set;
 
 public interface EventRepository {
 
     Optional<Event> eventOfId(EventId anId);
 
+    Optional<Event> eventForReservation(EventId anId, Set<CustomerId> customerIds);
+
+    default Optional<Event> eventForReservation(EventId anId, CustomerId aCustomerId) {
+        return eventForReservation(anId, Set.of(aCustomerId));
+    }
+
     Event create(Event event);
 
     Event update(Event event);
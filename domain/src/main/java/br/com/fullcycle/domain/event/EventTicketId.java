@@ -1,26 +1,41 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record EventTicketId(String value) {
+public record EventTicketId(long mostSigBits, long leastSigBits) {
 
-    public EventTicketId {
+    public static EventTicketId unique() {
+        return of(Ids.next());
+    }
+
+    public static EventTicketId with(final String value) {
         if (value == null) {
             throw new ValidationException("Invalid value for EventTicketId");
         }
-    }
 
-    public static EventTicketId unique(){
-        return new EventTicketId(UUID.randomUUID().toString());
-    }
-
-    public static EventTicketId with(final String value) {
         try {
-            return new EventTicketId(UUID.fromString(value).toString());
+            return of(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for EventTicketId");
         }
     }
+
+    public static EventTicketId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for EventTicketId");
+        }
+
+        return new EventTicketId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
 }
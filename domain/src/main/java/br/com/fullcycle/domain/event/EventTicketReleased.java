@@ -0,0 +1,33 @@
+package br.com.fullcycle.domain.event;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.domain.customer.CustomerId;
+
+import java.time.Instant;
+
+public record EventTicketReleased(
+        String domainEventId,
+        String type,
+        String eventTicketId,
+        String eventId,
+        String customerId,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public EventTicketReleased(EventTicketId eventTicketId, EventId eventId, CustomerId customerId) {
+        this(
+                Ids.nextValue(),
+                "event-ticket.released",
+                eventTicketId.value(),
+                eventId.value(),
+                customerId.value(),
+                Instant.now()
+        );
+    }
+
+    @Override
+    public String aggregateId() {
+        return eventId;
+    }
+}
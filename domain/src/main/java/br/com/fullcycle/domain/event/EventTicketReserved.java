@@ -1,10 +1,10 @@
 package br.com.fullcycle.domain.event;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.customer.CustomerId;
 
 import java.time.Instant;
-import java.util.UUID;
 
 public record EventTicketReserved(
         String domainEventId,
@@ -17,7 +17,7 @@ public record EventTicketReserved(
 
     public EventTicketReserved(EventTicketId eventTicketId, EventId eventId, CustomerId customerId) {
         this(
-                UUID.randomUUID().toString(),
+                Ids.nextValue(),
                 "event-ticket.reserved",
                 eventTicketId.value(),
                 eventId.value(),
@@ -25,4 +25,9 @@ public record EventTicketReserved(
                 Instant.now()
         );
     }
+
+    @Override
+    public String aggregateId() {
+        return eventId;
+    }
 }
@@ -1,11 +1,11 @@
 package br.com.fullcycle.domain.event;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 
 import java.time.Instant;
-import java.util.UUID;
 
 public record TicketCreated(
         String domainEventId,
@@ -19,7 +19,7 @@ public record TicketCreated(
 
     public TicketCreated(TicketId ticketId, EventTicketId eventTicketId, EventId eventId, CustomerId customerId) {
         this(
-                UUID.randomUUID().toString(),
+                Ids.nextValue(),
                 "ticket.created",
                 ticketId.value(),
                 eventTicketId.value(),
@@ -28,4 +28,9 @@ public record TicketCreated(
                 Instant.now()
         );
     }
+
+    @Override
+    public String aggregateId() {
+        return ticketId;
+    }
 }
@@ -0,0 +1,34 @@
+package br.com.fullcycle.domain.event;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+
+import java.time.Instant;
+
+public record TicketExpired(
+        String domainEventId,
+        String type,
+        String ticketId,
+        String eventId,
+        String customerId,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public TicketExpired(TicketId ticketId, EventId eventId, CustomerId customerId) {
+        this(
+                Ids.nextValue(),
+                "ticket.expired",
+                ticketId.value(),
+                eventId.value(),
+                customerId.value(),
+                Instant.now()
+        );
+    }
+
+    @Override
+    public String aggregateId() {
+        return ticketId;
+    }
+}
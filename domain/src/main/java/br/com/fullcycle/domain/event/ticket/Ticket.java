@@ -1,22 +1,22 @@
 package br.com.fullcycle.domain.event.ticket;
 
 import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.DomainEvents;
 import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventTicketId;
 import br.com.fullcycle.domain.event.TicketCreated;
+import br.com.fullcycle.domain.event.TicketExpired;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 public class Ticket {
 
     private final TicketId ticketId;
-    private final Set<DomainEvent> domainEvents;
+    private final DomainEvents domainEvents;
 
     private CustomerId customerId;
     private EventId eventId;
@@ -33,7 +33,7 @@ public class Ticket {
             final Instant reservedAt
     ) {
         this.ticketId = ticketId;
-        this.domainEvents = new HashSet<>();
+        this.domainEvents = new DomainEvents();
         this.setCustomerId(customerId);
         this.setEventId(eventId);
         this.setStatus(status);
@@ -48,11 +48,22 @@ public class Ticket {
     public static Ticket newTicket(final EventTicketId eventTicketId, CustomerId customerId, EventId eventId) {
         Ticket aTicket = newTicket(customerId, eventId);
 
-        aTicket.domainEvents.add(new TicketCreated(aTicket.ticketId, eventTicketId, eventId, customerId));
+        aTicket.domainEvents.append(new TicketCreated(aTicket.ticketId, eventTicketId, eventId, customerId));
 
         return aTicket;
     }
 
+    public Ticket expire() {
+        if (this.status != TicketStatus.PENDING) {
+            throw new ValidationException("Only pending tickets can expire");
+        }
+
+        this.status = TicketStatus.EXPIRED;
+        this.domainEvents.append(new TicketExpired(ticketId, eventId, customerId));
+
+        return this;
+    }
+
     public TicketId getTicketId() {
         return ticketId;
     }
@@ -77,8 +88,14 @@ public class Ticket {
         return reservedAt;
     }
 
-    public Set<DomainEvent> getAllDomainEvents() {
-        return Collections.unmodifiableSet(domainEvents);
+    // Events raised and not pulled yet, oldest first
+    public List<DomainEvent> getAllDomainEvents() {
+        return domainEvents.pending();
+    }
+
+    // Hands the pending events to whoever persists them; each one is returned once
+    public List<DomainEvent> pullDomainEvents() {
+        return domainEvents.pull();
     }
 
     @Override
@@ -1,26 +1,41 @@
 package br.com.fullcycle.domain.event.ticket;
 
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record TicketId(String value) {
+public record TicketId(long mostSigBits, long leastSigBits) {
 
-    public TicketId {
+    public static TicketId unique() {
+        return of(Ids.next());
+    }
+
+    public static TicketId with(final String value) {
         if (value == null) {
             throw new ValidationException("Invalid value for TicketId");
         }
-    }
 
-    public static TicketId unique(){
-        return new TicketId(UUID.randomUUID().toString());
-    }
-
-    public static TicketId with(final String value) {
         try {
-            return new TicketId(UUID.fromString(value).toString());
+            return of(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for TicketId");
         }
     }
+
+    public static TicketId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for TicketId");
+        }
+
+        return new TicketId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
 }
@@ -1,14 +1,22 @@
 package br.com.fullcycle.domain.event.ticket;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TicketRepository {
 
     Optional<Ticket> ticketOfId(TicketId anId);
 
+    List<Ticket> ticketsOfIds(Set<TicketId> ticketIds);
+
     Ticket create(Ticket ticket);
 
     Ticket update(Ticket ticket);
 
+    // Expires the tickets still PENDING when written, checked and changed in one step so a ticket paid meanwhile is
+    // left alone; returns the tickets it expired
+    List<Ticket> expirePending(Set<TicketId> ticketIds);
+
     void deleteAll();
 }
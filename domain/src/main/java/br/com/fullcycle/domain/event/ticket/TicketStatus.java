@@ -1,5 +1,5 @@
 package br.com.fullcycle.domain.event.ticket;
 
 public enum TicketStatus {
-    PENDING, PROCESSING, PAID;
+    PENDING, PROCESSING, PAID, EXPIRED;
 }
@@ -0,0 +1,96 @@
+package br.com.fullcycle.domain.event.waitlist;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+
+public class WaitlistEntry {
+
+    // First come, first served; the id only breaks ties between entries joining at the same instant
+    public static final Comparator<WaitlistEntry> ARRIVAL_ORDER = Comparator
+            .comparing(WaitlistEntry::getJoinedAt)
+            .thenComparingLong(it -> it.getWaitlistEntryId().mostSigBits())
+            .thenComparingLong(it -> it.getWaitlistEntryId().leastSigBits());
+
+    private final WaitlistEntryId waitlistEntryId;
+
+    private EventId eventId;
+    private CustomerId customerId;
+    private Instant joinedAt;
+
+    public WaitlistEntry(
+            final WaitlistEntryId waitlistEntryId,
+            final EventId eventId,
+            final CustomerId customerId,
+            final Instant joinedAt
+    ) {
+        if (waitlistEntryId == null) {
+            throw new ValidationException("Invalid waitlistEntryId for WaitlistEntry");
+        }
+
+        this.waitlistEntryId = waitlistEntryId;
+        this.setEventId(eventId);
+        this.setCustomerId(customerId);
+        this.setJoinedAt(joinedAt);
+    }
+
+    public static WaitlistEntry newEntry(final EventId eventId, final CustomerId customerId) {
+        return new WaitlistEntry(WaitlistEntryId.unique(), eventId, customerId, Instant.now());
+    }
+
+    public WaitlistEntryId getWaitlistEntryId() {
+        return waitlistEntryId;
+    }
+
+    public EventId getEventId() {
+        return eventId;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public Instant getJoinedAt() {
+        return joinedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        WaitlistEntry that = (WaitlistEntry) o;
+        return Objects.equals(waitlistEntryId, that.waitlistEntryId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(waitlistEntryId);
+    }
+
+    private void setEventId(final EventId eventId) {
+        if (eventId == null) {
+            throw new ValidationException("Invalid eventId for WaitlistEntry");
+        }
+
+        this.eventId = eventId;
+    }
+
+    private void setCustomerId(final CustomerId customerId) {
+        if (customerId == null) {
+            throw new ValidationException("Invalid customerId for WaitlistEntry");
+        }
+
+        this.customerId = customerId;
+    }
+
+    private void setJoinedAt(final Instant joinedAt) {
+        if (joinedAt == null) {
+            throw new ValidationException("Invalid joinedAt for WaitlistEntry");
+        }
+
+        this.joinedAt = joinedAt;
+    }
+}
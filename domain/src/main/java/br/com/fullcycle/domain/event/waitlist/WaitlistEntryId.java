@@ -0,0 +1,41 @@
+package br.com.fullcycle.domain.event.waitlist;
+
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+
+import java.util.UUID;
+
+public record WaitlistEntryId(long mostSigBits, long leastSigBits) {
+
+    public static WaitlistEntryId unique() {
+        return of(Ids.next());
+    }
+
+    public static WaitlistEntryId with(final String value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for WaitlistEntryId");
+        }
+
+        try {
+            return of(UUID.fromString(value));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid value for WaitlistEntryId");
+        }
+    }
+
+    public static WaitlistEntryId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for WaitlistEntryId");
+        }
+
+        return new WaitlistEntryId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.fullcycle.domain.event.waitlist;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistRepository {
+
+    Optional<WaitlistEntry> entryOf(EventId anEventId, CustomerId aCustomerId);
+
+    // Whether anyone waits for the event; cheap enough to ask on every reservation
+    boolean hasWaiting(EventId anEventId);
+
+    // The first entries waiting for the event, in arrival order, without removing them
+    List<WaitlistEntry> nextOf(EventId anEventId, int limit);
+
+    // Up to limit events someone waits for whose stored counters still show free seats
+    List<EventId> eventsWithFreeSeats(int limit);
+
+    WaitlistEntry create(WaitlistEntry entry);
+
+    void removeAll(List<WaitlistEntry> entries);
+
+    void deleteAll();
+}
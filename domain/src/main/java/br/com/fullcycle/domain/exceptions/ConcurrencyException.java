@@ -0,0 +1,12 @@
+package br.com.fullcycle.domain.exceptions;
+
+public class ConcurrencyException extends RuntimeException {
+
+    public ConcurrencyException(String message) {
+        super(message, null, true, false);
+    }
+
+    public ConcurrencyException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
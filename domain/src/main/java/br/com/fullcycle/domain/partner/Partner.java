@@ -26,7 +26,9 @@ public class Partner {
     }
 
     public static Partner newPartner(String name, String cnpj, String email) {
-        return new Partner(PartnerId.unique(), name, cnpj, email);
+        final var aPartner = new Partner(PartnerId.unique(), name, cnpj, email);
+        aPartner.cnpj.requireCheckDigits();
+        return aPartner;
     }
 
     public PartnerId getPartnerId() {
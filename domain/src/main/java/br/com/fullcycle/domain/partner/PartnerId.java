@@ -1,26 +1,41 @@
 package br.com.fullcycle.domain.partner;
 
+import br.com.fullcycle.domain.Ids;
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
 import java.util.UUID;
 
-public record PartnerId(String value) {
+public record PartnerId(long mostSigBits, long leastSigBits) {
 
-    public PartnerId {
+    public static PartnerId unique() {
+        return of(Ids.next());
+    }
+
+    public static PartnerId with(final String value) {
         if (value == null) {
             throw new ValidationException("Invalid value for PartnerId");
         }
-    }
 
-    public static PartnerId unique(){
-        return new PartnerId(UUID.randomUUID().toString());
-    }
-
-    public static PartnerId with(final String value) {
         try {
-            return new PartnerId(UUID.fromString(value).toString());
+            return of(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for PartnerId");
         }
     }
+
+    public static PartnerId of(final UUID value) {
+        if (value == null) {
+            throw new ValidationException("Invalid value for PartnerId");
+        }
+
+        return new PartnerId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public String value() {
+        return toUuid().toString();
+    }
 }
@@ -2,11 +2,83 @@ package br.com.fullcycle.domain.person;
 
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
+// Same split as Cpf: the format on every construction, the check digits only for new CNPJs
 public record Cnpj(String value) {
 
+    private static final int LENGTH = 18;
+
     public Cnpj {
-        if (value == null || !value.matches("^\\d{2}\\.\\d{3}\\.\\d{3}\\/\\d{4}\\-\\d{2}$")) {
+        if (!isFormatted(value)) {
+            throw new ValidationException("Invalid value for CNPJ");
+        }
+    }
+
+    public Cnpj requireCheckDigits() {
+        if (!hasValidCheckDigits(value)) {
             throw new ValidationException("Invalid value for CNPJ");
         }
+
+        return this;
+    }
+
+    // dd.ddd.ddd/dddd-dd
+    private static boolean isFormatted(final String value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < LENGTH; i++) {
+            final var c = value.charAt(i);
+            final var valid = switch (i) {
+                case 2, 6 -> c == '.';
+                case 10 -> c == '/';
+                case 15 -> c == '-';
+                default -> c >= '0' && c <= '9';
+            };
+
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean hasValidCheckDigits(final String value) {
+        var first = 0;
+        var second = 0;
+        var position = 0;
+        var sameDigits = true;
+        final var firstDigit = value.charAt(0);
+
+        // The 12 base digits weigh 5..2 then 9..2 for the first check digit, 6..2 then 9..3 for the second
+        for (int i = 0; i < 15; i++) {
+            if (i == 2 || i == 6 || i == 10) {
+                continue;
+            }
+
+            final var digit = value.charAt(i) - '0';
+            first += digit * weightOf(position, 5);
+            second += digit * weightOf(position, 6);
+            sameDigits &= value.charAt(i) == firstDigit;
+            position++;
+        }
+
+        final var firstCheck = checkDigit(first);
+        second += firstCheck * 2;
+
+        return !sameDigits
+                && value.charAt(16) - '0' == firstCheck
+                && value.charAt(17) - '0' == checkDigit(second);
+    }
+
+    private static int weightOf(final int position, final int start) {
+        final var weight = start - position;
+        return weight >= 2 ? weight : weight + 8;
+    }
+
+    private static int checkDigit(final int sum) {
+        final var rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
     }
 }
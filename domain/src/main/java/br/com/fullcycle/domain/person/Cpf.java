@@ -2,11 +2,79 @@ package br.com.fullcycle.domain.person;
 
 import br.com.fullcycle.domain.exceptions.ValidationException;
 
+// Format is checked on every construction, restores included, by a single scan without regex or allocation.
+// The check digits are only demanded when a new CPF enters the system, see requireCheckDigits.
 public record Cpf(String value) {
 
+    private static final int LENGTH = 14;
+
     public Cpf {
-        if (value == null || !value.matches("^\\d{3}\\.\\d{3}\\.\\d{3}\\-\\d{2}$")) {
+        if (!isFormatted(value)) {
+            throw new ValidationException("Invalid value for CPF");
+        }
+    }
+
+    public Cpf requireCheckDigits() {
+        if (!hasValidCheckDigits(value)) {
             throw new ValidationException("Invalid value for CPF");
         }
+
+        return this;
+    }
+
+    // ddd.ddd.ddd-dd
+    private static boolean isFormatted(final String value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < LENGTH; i++) {
+            final var c = value.charAt(i);
+            final var valid = switch (i) {
+                case 3, 7 -> c == '.';
+                case 11 -> c == '-';
+                default -> c >= '0' && c <= '9';
+            };
+
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean hasValidCheckDigits(final String value) {
+        var first = 0;
+        var second = 0;
+        var weight = 10;
+        var sameDigits = true;
+        final var firstDigit = value.charAt(0);
+
+        // Base digits sit at 0-2, 4-6 and 8-10
+        for (int i = 0; i < 11; i++) {
+            if (i == 3 || i == 7) {
+                continue;
+            }
+
+            final var digit = value.charAt(i) - '0';
+            first += digit * weight;
+            second += digit * (weight + 1);
+            sameDigits &= value.charAt(i) == firstDigit;
+            weight--;
+        }
+
+        final var firstCheck = checkDigit(first);
+        second += firstCheck * 2;
+
+        // 000.000.000-00, 111.111.111-11 and so on pass the arithmetic but are not valid
+        return !sameDigits
+                && value.charAt(12) - '0' == firstCheck
+                && value.charAt(13) - '0' == checkDigit(second);
+    }
+
+    private static int checkDigit(final int sum) {
+        final var rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
     }
 }
@@ -5,8 +5,53 @@ import br.com.fullcycle.domain.exceptions.ValidationException;
 public record Email (String value) {
 
     public Email {
-        if (value == null || !value.matches("^\\w+([\\.-]?\\w+)*@\\w+([\\.-]?\\w+)*(\\.\\w{2,3})+$")) {
+        if (!isValid(value)) {
             throw new ValidationException("Invalid value for Email");
         }
     }
+
+    // Same language as the former ^\w+([\.-]?\w+)*@\w+([\.-]?\w+)*(\.\w{2,3})+$, in one scan: runs of word
+    // characters joined by single dots or dashes on both sides of the @, the domain ending in a dot and a
+    // 2 to 3 character run
+    private static boolean isValid(final String value) {
+        if (value == null) {
+            return false;
+        }
+
+        final var length = value.length();
+        var at = -1;
+        var run = 0;
+        var lastSeparator = ' ';
+
+        for (int i = 0; i < length; i++) {
+            final var c = value.charAt(i);
+
+            if (isWordChar(c)) {
+                run++;
+                continue;
+            }
+
+            // Every separator needs a run on its left; the one on its right is checked by the next separator or the end
+            if (run == 0) {
+                return false;
+            }
+
+            if (c == '@' && at < 0) {
+                at = i;
+                lastSeparator = ' ';
+            } else if (c == '.' || c == '-') {
+                lastSeparator = c;
+            } else {
+                return false;
+            }
+
+            run = 0;
+        }
+
+        return at > 0 && lastSeparator == '.' && run >= 2 && run <= 3;
+    }
+
+    private static boolean isWordChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
 }
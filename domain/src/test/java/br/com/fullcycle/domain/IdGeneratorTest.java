@@ -0,0 +1,44 @@
+package br.com.fullcycle.domain;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class IdGeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 em ordem crescente")
+    public void testUuidV7() {
+        // given
+        final var generator = IdGenerator.uuidV7();
+        final var expectedVersion = 7;
+        final var expectedVariant = 2;
+
+        // when
+        var previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            final var actual = generator.next();
+
+            // then
+            Assertions.assertEquals(expectedVersion, actual.version());
+            Assertions.assertEquals(expectedVariant, actual.variant());
+            Assertions.assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), actual.getMostSignificantBits()) < 0);
+            previous = actual;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve carregar o instante de criação nos primeiros 48 bits")
+    public void testUuidV7Timestamp() {
+        // given
+        final var before = System.currentTimeMillis();
+
+        // when
+        final var actual = IdGenerator.uuidV7().next();
+
+        // then
+        final var actualMillis = actual.getMostSignificantBits() >>> 16;
+        Assertions.assertTrue(actualMillis >= before);
+        Assertions.assertTrue(actualMillis <= System.currentTimeMillis() + 1);
+    }
+}
@@ -11,7 +11,7 @@ public class CustomerTest {
     @DisplayName("Deve instanciar um cliente")
     public void testCreateCustomer() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -41,6 +41,22 @@ public class CustomerTest {
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve instanciar um novo cliente com dígitos verificadores do CPF inválidos")
+    public void testCreateCustomerWithInvalidCPFCheckDigits() {
+        // given
+        final var expectedError = "Invalid value for CPF";
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com")
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
     @Test
     @DisplayName("Não deve instanciar um cliente com nome inválido")
     public void testCreateCustomerWithInvalidName() {
@@ -50,7 +66,7 @@ public class CustomerTest {
         // when
         final var actualError = Assertions.assertThrows(
                 ValidationException.class,
-                () -> Customer.newCustomer(null, "123.456.789-01", "john.doe@mail.com")
+                () -> Customer.newCustomer(null, "123.456.789-09", "john.doe@mail.com")
         );
 
         // then
@@ -66,7 +82,7 @@ public class CustomerTest {
         // when
         final var actualError = Assertions.assertThrows(
                 ValidationException.class,
-                () -> Customer.newCustomer("John Doe", "123.456.789-01", "john.doemail.com")
+                () -> Customer.newCustomer("John Doe", "123.456.789-09", "john.doemail.com")
         );
 
         // then
@@ -0,0 +1,44 @@
+package br.com.fullcycle.domain.event;
+
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class EventIdTest {
+
+    @Test
+    @DisplayName("Deve converter um id entre texto, UUID e as duas metades")
+    public void testRoundTrip() {
+        // given
+        final var expectedValue = "0190f6a8-3c2e-7d41-9b1a-5e6f7a8b9c0d";
+        final var expectedUuid = UUID.fromString(expectedValue);
+
+        // when
+        final var actualId = EventId.with(expectedValue);
+
+        // then
+        Assertions.assertEquals(expectedValue, actualId.value());
+        Assertions.assertEquals(expectedUuid, actualId.toUuid());
+        Assertions.assertEquals(expectedUuid.getMostSignificantBits(), actualId.mostSigBits());
+        Assertions.assertEquals(expectedUuid.getLeastSignificantBits(), actualId.leastSigBits());
+        Assertions.assertEquals(actualId, EventId.of(expectedUuid));
+    }
+
+    @Test
+    @DisplayName("Não deve criar um id a partir de um valor inválido")
+    public void testInvalidValue() {
+        // given
+        final var expectedError = "Invalid value for EventId";
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, () -> EventId.with("not-an-id"));
+        final var actualNullError = Assertions.assertThrows(ValidationException.class, () -> EventId.with(null));
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+        Assertions.assertEquals(expectedError, actualNullError.getMessage());
+    }
+}
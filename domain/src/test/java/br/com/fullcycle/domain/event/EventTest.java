@@ -1,5 +1,6 @@
 package br.com.fullcycle.domain.event;
 
+import br.com.fullcycle.domain.DomainEvent;
 import br.com.fullcycle.domain.customer.Customer;
 import br.com.fullcycle.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.domain.exceptions.ValidationException;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
 
 public class EventTest {
 
@@ -16,7 +19,7 @@ public class EventTest {
     @DisplayName("Deve instanciar um evento")
     public void testCreateEvent() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
 
         final var expectedDate = "2021-01-01";
         final var expectedName = "Disney on Ice";
@@ -40,7 +43,7 @@ public class EventTest {
     @DisplayName("Não deve instanciar um evento com nome inválido")
     public void testCreateEventWithInvalidName() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
 
         final var expectedError = "Invalid value for Name";
 
@@ -58,7 +61,7 @@ public class EventTest {
     @DisplayName("Não deve instanciar um evento com data inválida")
     public void testCreateEventWithInvalidDate() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
 
         final var expectedError = "Invalid date for Event";
 
@@ -76,8 +79,8 @@ public class EventTest {
     @DisplayName("Deve reservar um ticket quando é possível")
     public void testReserveTicket() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
 
         final var expectedCustomerId = aCustomer.getCustomerId();
         final var expectedDate = "2021-01-01";
@@ -123,9 +126,9 @@ public class EventTest {
     @DisplayName("Não deve reservar um ticket quando o evento está esgotado")
     public void testReserveTicketWhenEventIsSoldOut() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
-        final var anotherCustomer = Customer.newCustomer("Jane Doe", "123.456.789-02", "jane.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anotherCustomer = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
 
         final var expectedDate = "2021-01-01";
         final var expectedName = "Disney on Ice";
@@ -152,8 +155,8 @@ public class EventTest {
     @DisplayName("Não deve reservar dois tickets para um mesmo cliente")
     public void testReserveTicketForSameCustomer() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
 
         final var expectedDate = "2021-01-01";
         final var expectedName = "Disney on Ice";
@@ -175,4 +178,128 @@ public class EventTest {
         // then
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve continuar a numeração dos tickets de um evento restaurado")
+    public void testReserveTicketOnRestoredEvent() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anotherCustomer = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+
+        final var anEventId = EventId.unique();
+        final var tickets = new HashSet<EventTicket>();
+        tickets.add(EventTicket.newTicket(anEventId, anotherCustomer.getCustomerId(), 1));
+
+        final var expectedTicketOrder = 2;
+        final var expectedSoldCount = 2;
+        final var expectedError = "Email already registered";
+
+        final var actualEvent = Event.restore(
+                anEventId.value(), "Disney on Ice", "2021-01-01", 10, aPartner.getPartnerId().value(), tickets, 0
+        );
+
+        // when
+        final var actualTicket = actualEvent.reserveTicket(aCustomer.getCustomerId());
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> actualEvent.reserveTicket(anotherCustomer.getCustomerId())
+        );
+
+        // then
+        Assertions.assertEquals(expectedTicketOrder, actualTicket.getOrdering());
+        Assertions.assertEquals(expectedSoldCount, actualEvent.getSoldCount());
+        Assertions.assertEquals(expectedSoldCount, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(List.of(actualTicket), actualEvent.getNewTickets());
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga de um cliente do evento")
+    public void testReleaseTicket() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        final var aTicket = anEvent.reserveTicket(aCustomer.getCustomerId());
+
+        final var expectedSoldCount = 0;
+        final var expectedDomainEvents = 2;
+
+        // when
+        final var actualTicket = anEvent.releaseTicket(aCustomer.getCustomerId());
+
+        // then
+        Assertions.assertEquals(aTicket, actualTicket);
+        Assertions.assertEquals(expectedSoldCount, anEvent.getSoldCount());
+        Assertions.assertEquals(List.of(aTicket), anEvent.getReleasedTickets());
+        Assertions.assertTrue(anEvent.getAllTickets().isEmpty());
+        Assertions.assertEquals(expectedDomainEvents, anEvent.getAllDomainEvents().size());
+        Assertions.assertNotNull(anEvent.reserveTicket(aCustomer.getCustomerId()));
+    }
+
+    @Test
+    @DisplayName("Não deve reaproveitar o número de um ticket liberado")
+    public void testReserveTicketAfterReleaseGetsNewOrdering() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var john = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var jane = Customer.newCustomer("Jane Doe", "123.456.788-10", "jane.doe@mail.com");
+        final var joe = Customer.newCustomer("Joe Doe", "123.456.787-39", "joe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner);
+        anEvent.reserveTicket(john.getCustomerId());
+        final var janeTicket = anEvent.reserveTicket(jane.getCustomerId());
+        anEvent.releaseTicket(john.getCustomerId());
+
+        final var expectedOrdering = 3;
+
+        // when
+        final var actualTicket = anEvent.reserveTicket(joe.getCustomerId());
+
+        // then
+        Assertions.assertEquals(expectedOrdering, actualTicket.getOrdering());
+        Assertions.assertNotEquals(janeTicket.getOrdering(), actualTicket.getOrdering());
+        Assertions.assertEquals(2, anEvent.getSoldCount());
+    }
+
+    @Test
+    @DisplayName("Deve entregar os eventos de domínio em ordem e uma única vez")
+    public void testPullDomainEvents() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+        anEvent.reserveTicket(aCustomer.getCustomerId());
+        anEvent.releaseTicket(aCustomer.getCustomerId());
+
+        final var expectedTypes = List.of("event-ticket.reserved", "event-ticket.released");
+
+        // when
+        final var actualDomainEvents = anEvent.pullDomainEvents();
+
+        // then
+        Assertions.assertEquals(expectedTypes, actualDomainEvents.stream().map(DomainEvent::type).toList());
+        Assertions.assertTrue(anEvent.pullDomainEvents().isEmpty());
+        Assertions.assertTrue(anEvent.getAllDomainEvents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve liberar a vaga de um cliente sem ticket no evento")
+    public void testReleaseTicketWithoutTicket() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
+
+        final var expectedError = "Ticket not found";
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> anEvent.releaseTicket(aCustomer.getCustomerId())
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
 }
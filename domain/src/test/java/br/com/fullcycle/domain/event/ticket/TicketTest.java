@@ -2,6 +2,7 @@ package br.com.fullcycle.domain.event.ticket;
 
 import br.com.fullcycle.domain.customer.Customer;
 import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.domain.partner.Partner;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +14,8 @@ public class TicketTest {
     @DisplayName("Deve instanciar um ticket")
     public void testCreateTicket() {
         // given
-        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-11", "john.doe@mail.com");
-        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@mail.com");
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
 
         final var expectedTicketStatus = TicketStatus.PENDING;
@@ -32,4 +33,28 @@ public class TicketTest {
         Assertions.assertEquals(expectedCustomerId, actualTicket.getCustomerId());
         Assertions.assertEquals(expectedTicketStatus, actualTicket.getStatus());
     }
+
+    @Test
+    @DisplayName("Deve expirar um ticket pendente")
+    public void testExpireTicket() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aTicket = Ticket.newTicket(aCustomer.getCustomerId(), anEvent.getEventId());
+
+        final var expectedTicketStatus = TicketStatus.EXPIRED;
+        final var expectedDomainEvents = 1;
+        final var expectedError = "Only pending tickets can expire";
+
+        // when
+        aTicket.expire();
+
+        // then
+        Assertions.assertEquals(expectedTicketStatus, aTicket.getStatus());
+        Assertions.assertEquals(expectedDomainEvents, aTicket.getAllDomainEvents().size());
+
+        final var actualError = Assertions.assertThrows(ValidationException.class, aTicket::expire);
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
 }
@@ -0,0 +1,73 @@
+package br.com.fullcycle.domain.event.waitlist;
+
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+public class WaitlistEntryTest {
+
+    @Test
+    @DisplayName("Deve instanciar uma entrada na lista de espera")
+    public void testCreateWaitlistEntry() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var expectedEventId = anEvent.getEventId();
+        final var expectedCustomerId = aCustomer.getCustomerId();
+
+        // when
+        final var actualEntry = WaitlistEntry.newEntry(anEvent.getEventId(), aCustomer.getCustomerId());
+
+        // then
+        Assertions.assertNotNull(actualEntry.getWaitlistEntryId());
+        Assertions.assertNotNull(actualEntry.getJoinedAt());
+        Assertions.assertEquals(expectedEventId, actualEntry.getEventId());
+        Assertions.assertEquals(expectedCustomerId, actualEntry.getCustomerId());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar a lista de espera por ordem de chegada")
+    public void testArrivalOrder() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-09", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var joinedAt = Instant.parse("2021-01-01T10:00:00Z");
+
+        final var first = new WaitlistEntry(WaitlistEntryId.unique(), anEvent.getEventId(), aCustomer.getCustomerId(), joinedAt);
+        final var second = new WaitlistEntry(WaitlistEntryId.unique(), anEvent.getEventId(), aCustomer.getCustomerId(), joinedAt.plusMillis(1));
+
+        // when
+        final var actualOrder = WaitlistEntry.ARRIVAL_ORDER.compare(first, second);
+
+        // then
+        Assertions.assertTrue(actualOrder < 0);
+    }
+
+    @Test
+    @DisplayName("Não deve instanciar uma entrada na lista de espera sem cliente")
+    public void testCreateWaitlistEntryWithoutCustomer() {
+        // given
+        final var aPartner = Partner.newPartner("John Doe", "01.001.001/0001-13", "john.doe@mail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+
+        final var expectedError = "Invalid customerId for WaitlistEntry";
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> WaitlistEntry.newEntry(anEvent.getEventId(), null)
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+}
@@ -11,7 +11,7 @@ public class PartnerTest {
     @DisplayName("Deve instanciar um parceiro")
     public void testCreatePartner() {
         // given
-        final var expectedCNPJ = "01.001.001/0001-01";
+        final var expectedCNPJ = "01.001.003/0001-02";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -41,6 +41,22 @@ public class PartnerTest {
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve instanciar um novo parceiro com dígitos verificadores do CNPJ inválidos")
+    public void testCreatePartnerWithInvalidCNPJCheckDigits() {
+        // given
+        final var expectedError = "Invalid value for CNPJ";
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> Partner.newPartner("John Doe", "41.536.538/0001-01", "john.doe@mail.com")
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
     @Test
     @DisplayName("Não deve instanciar um parceiro com nome inválido")
     public void testCreatePartnerWithInvalidName() {
@@ -50,7 +66,7 @@ public class PartnerTest {
         // when
         final var actualError = Assertions.assertThrows(
                 ValidationException.class,
-                () -> Partner.newPartner(null, "01.001.001/0001-01", "john.doe@mail.com")
+                () -> Partner.newPartner(null, "01.001.003/0001-02", "john.doe@mail.com")
         );
 
         // then
@@ -66,7 +82,7 @@ public class PartnerTest {
         // when
         final var actualError = Assertions.assertThrows(
                 ValidationException.class,
-                () -> Partner.newPartner("John Doe", "01.001.001/0001-01", "john.doemail.com")
+                () -> Partner.newPartner("John Doe", "01.001.003/0001-02", "john.doemail.com")
         );
 
         // then
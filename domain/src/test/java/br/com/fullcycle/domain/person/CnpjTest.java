@@ -11,7 +11,7 @@ public class CnpjTest {
     @DisplayName("Deve instanciar um CNPJ")
     public void testCreateCNPJ() {
         // given
-        final var expectedCNPJ = "01.001.001/0001-01";
+        final var expectedCNPJ = "01.001.003/0001-02";
 
         // when
         final var actualCnpj = new Cnpj(expectedCNPJ);
@@ -51,4 +51,31 @@ public class CnpjTest {
         // then
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve aceitar um CNPJ com dígitos verificadores válidos")
+    public void testRequireCheckDigits() {
+        // given
+        final var expectedCNPJ = "11.222.333/0001-81";
+
+        // when
+        final var actualCnpj = new Cnpj(expectedCNPJ).requireCheckDigits();
+
+        // then
+        Assertions.assertEquals(expectedCNPJ, actualCnpj.value());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um CNPJ com dígitos verificadores inválidos")
+    public void testRequireCheckDigitsWithInvalidDigits() {
+        // given
+        final var expectedError = "Invalid value for CNPJ";
+        final var aCnpj = new Cnpj("11.222.333/0001-18");
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, aCnpj::requireCheckDigits);
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
 }
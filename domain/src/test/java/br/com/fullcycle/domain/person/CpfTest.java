@@ -11,7 +11,7 @@ public class CpfTest {
     @DisplayName("Deve instanciar um CPF")
     public void testCreateCPF() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
 
         // when
         final var actualCpf = new Cpf(expectedCPF);
@@ -51,4 +51,45 @@ public class CpfTest {
         // then
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
+
+    @Test
+    @DisplayName("Deve aceitar um CPF com dígitos verificadores válidos")
+    public void testRequireCheckDigits() {
+        // given
+        final var expectedCPF = "529.982.247-25";
+
+        // when
+        final var actualCpf = new Cpf(expectedCPF).requireCheckDigits();
+
+        // then
+        Assertions.assertEquals(expectedCPF, actualCpf.value());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um CPF com dígitos verificadores inválidos")
+    public void testRequireCheckDigitsWithInvalidDigits() {
+        // given
+        final var expectedError = "Invalid value for CPF";
+        final var aCpf = new Cpf("529.982.247-52");
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, aCpf::requireCheckDigits);
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um CPF com todos os dígitos iguais")
+    public void testRequireCheckDigitsWithRepeatedDigits() {
+        // given
+        final var expectedError = "Invalid value for CPF";
+        final var aCpf = new Cpf("111.111.111-11");
+
+        // when
+        final var actualError = Assertions.assertThrows(ValidationException.class, aCpf::requireCheckDigits);
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
 }
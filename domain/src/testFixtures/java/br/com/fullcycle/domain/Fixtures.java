@@ -0,0 +1,35 @@
+package br.com.fullcycle.domain;
+
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    // A distinct CPF with valid check digits for every seed up to 999
+    public static String cpf(final int seed) {
+        final var digits = new int[11];
+        final var base = 123_456_000 + seed;
+
+        for (int i = 8, rest = base; i >= 0; i--, rest /= 10) {
+            digits[i] = rest % 10;
+        }
+
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+
+        return "%d%d%d.%d%d%d.%d%d%d-%d%d".formatted(
+                digits[0], digits[1], digits[2], digits[3], digits[4], digits[5],
+                digits[6], digits[7], digits[8], digits[9], digits[10]
+        );
+    }
+
+    private static int checkDigit(final int[] digits, final int length) {
+        var sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+
+        final var rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+}
@@ -4,10 +4,14 @@ plugins {
     `jacoco-report-aggregation`
     id("org.springframework.boot") version "3.1.2"
     id("io.spring.dependency-management") version "1.1.2"
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 group = "br.com.fullcycle.infrastructure"
 
+// 2.1 cannot parse FOR UPDATE SKIP LOCKED, which the relay issues when outbox.relay.skip-locked is on
+extra["h2.version"] = "2.2.224"
+
 tasks.bootJar {
     archiveBaseName.set("application")
     destinationDirectory.set(file("${rootProject.buildDir}/libs"))
@@ -18,19 +22,42 @@ dependencies {
     implementation(project(":application"))
 
     implementation("io.hypersistence:hypersistence-tsid:2.1.0")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-graphql")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
 
     implementation("jakarta.inject:jakarta.inject-api:2.0.1")
 
     runtimeOnly("com.mysql:mysql-connector-j")
 
+    testImplementation(testFixtures(project(":domain")))
     testImplementation("org.springframework.boot:spring-boot-starter-test")
-    testImplementation("org.springframework:spring-webflux")
     testImplementation("org.springframework.graphql:spring-graphql-test")
 
     testRuntimeOnly("com.h2database:h2")
+
+    jmh("com.h2database:h2")
+    jmh("org.springframework:spring-test")
+    jmh("com.mysql:mysql-connector-j")
+}
+
+tasks.register<JavaExec>("runLean") {
+    group = "application"
+    description = "Starts the lean launch mode: partner routes on the JDK HTTP server, without Spring"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("br.com.fullcycle.infrastructure.LeanMain")
+    systemProperties(
+        System.getProperties().entries
+            .associate { it.key.toString() to it.value }
+            .filterKeys { it.startsWith("spring.") || it.startsWith("ids.") || it.startsWith("lean.") }
+    )
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    includeTests.set(false)
 }
 
 tasks.testCodeCoverageReport {
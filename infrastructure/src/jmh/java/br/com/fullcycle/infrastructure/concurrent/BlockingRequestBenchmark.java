@@ -0,0 +1,103 @@
+package br.com.fullcycle.infrastructure.concurrent;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustained requests per second when every request blocks for {@code blockMillis}, as ours do on JDBC, served by
+ * Tomcat's default of 200 platform threads or by a {@link LimitedExecutor} on virtual threads allowing
+ * {@code concurrency} requests at once. The memory side of the comparison is reported by JMH next to the score as
+ * {@code serve:peakThreads}, the peak platform thread count, and {@code serve:heapMegabytes}, the heap in use after
+ * the last burst; each platform thread also reserves its own stack outside the heap. Add {@code -prof gc} for the
+ * allocation rate.
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=BlockingRequestBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BlockingRequestBenchmark {
+
+    private static final int REQUESTS = 2_000;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200", "1000"})
+    private int concurrency;
+
+    @Param({"5"})
+    private long blockMillis;
+
+    private Executor executor;
+    private ThreadPoolExecutor platformPool;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(this.mode)) {
+            this.executor = new LimitedExecutor(Thread.ofVirtual().name("request-", 0).factory(), this.concurrency, REQUESTS);
+            return;
+        }
+
+        this.platformPool = new ThreadPoolExecutor(
+                this.concurrency,
+                this.concurrency,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REQUESTS)
+        );
+        this.executor = this.platformPool;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (this.platformPool != null) {
+            this.platformPool.shutdownNow();
+        }
+    }
+
+    // One invocation is a burst of REQUESTS; with OperationsPerInvocation the score is already in requests per second
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void serve(final Footprint footprint) throws InterruptedException {
+        final var done = new CountDownLatch(REQUESTS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            this.executor.execute(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(this.blockMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                done.countDown();
+            });
+        }
+
+        done.await();
+        footprint.sample();
+    }
+
+    // Secondary results; JMH prints the last value of each field instead of a rate
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long peakThreads;
+        public long heapMegabytes;
+
+        void sample() {
+            this.peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+            this.heapMegabytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() >> 20;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.fullcycle.infrastructure.http;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing overhead with 60 routes registered, 15 resources with a list, create, get and action route each, through
+ * the {@link RouterFunction} each {@code http.router} setting deploys: {@code spring} builds it with
+ * {@link SpringHttpRouter} on the RouterFunctions builder, {@code trie} with {@link TrieHttpRouter}. Both are asked
+ * to {@code route(...)} the same prebuilt {@link ServerRequest}s over mock servlet requests, so the score is the
+ * lookup alone, path variables included. Run with {@code -prof gc} to see the allocation per request as well:
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=RoutingBenchmark</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingBenchmark {
+
+    private static final int RESOURCES = 15;
+
+    @Param({"spring", "trie"})
+    private String router;
+
+    private RouterFunction<ServerResponse> routes;
+    private ServerRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        final HttpRouter.HttpHandler<String> handler = request -> HttpRouter.HttpResponse.ok("ok");
+
+        final HttpRouter httpRouter = "trie".equals(this.router) ? new TrieHttpRouter() : new SpringHttpRouter();
+        for (int i = 0; i < RESOURCES; i++) {
+            final var resource = "/resource" + i;
+            httpRouter.GET(resource, handler);
+            httpRouter.POST(resource, handler);
+            httpRouter.GET(resource + "/{id}", handler);
+            httpRouter.POST(resource + "/{id}/action", handler);
+        }
+
+        this.routes = httpRouter instanceof TrieHttpRouter trie
+                ? trie.build()
+                : ((SpringHttpRouter) httpRouter).getRouter().build();
+
+        // Spread over the table, the late routes being the expensive ones for a linear scan
+        final var requests = new ArrayList<ServerRequest>();
+        for (int i = 0; i < RESOURCES; i += 2) {
+            requests.add(request("GET", "/resource" + i));
+            requests.add(request("GET", "/resource" + i + "/0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d"));
+            requests.add(request("POST", "/resource" + i + "/0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d/action"));
+        }
+        requests.add(request("GET", "/unknown/route"));
+        this.requests = requests.toArray(ServerRequest[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(25)
+    public void route(final Blackhole blackhole) {
+        for (final var request : this.requests) {
+            blackhole.consume(this.routes.route(request));
+        }
+    }
+
+    private static ServerRequest request(final String method, final String path) {
+        // As the DispatcherServlet does before any handler mapping runs
+        final var servletRequest = new MockHttpServletRequest(method, path);
+        ServletRequestPathUtils.parseAndCache(servletRequest);
+
+        return ServerRequest.create(servletRequest, List.of(new StringHttpMessageConverter()));
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.fullcycle.infrastructure.ids;
+
+import br.com.fullcycle.domain.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second into a table keyed by {@code BINARY(16)}, like the {@code UUID} columns Hibernate maps on
+ * MySQL, with random UUIDv4, UUIDv7 and TSID keys. On MySQL the table and index size is printed after each trial;
+ * random keys split pages all over the primary key and end up larger for the same rows:
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=IdInsertBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"random", "uuidv7", "tsid"})
+    private String generator;
+
+    @Param({"jdbc:h2:mem:ids;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1"})
+    private String url;
+
+    @Param({"root"})
+    private String user;
+
+    @Param({"root"})
+    private String password;
+
+    private IdGenerator ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.ids = switch (generator) {
+            case "random" -> IdGenerator.random();
+            case "uuidv7" -> IdGenerator.uuidV7();
+            case "tsid" -> new TsidIdGenerator(1);
+            default -> throw new IllegalArgumentException(generator);
+        };
+
+        try (var conn = DriverManager.getConnection(url, user, password); var st = conn.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS ids_bench");
+            st.execute("""
+                    CREATE TABLE ids_bench (
+                        id BINARY(16) NOT NULL,
+                        ordering INT NOT NULL,
+                        PRIMARY KEY (id)
+                    )
+                    """);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (!url.startsWith("jdbc:mysql")) {
+            return;
+        }
+
+        try (var conn = DriverManager.getConnection(url, user, password); var st = conn.createStatement()) {
+            st.execute("ANALYZE TABLE ids_bench");
+
+            try (var rs = st.executeQuery("""
+                    SELECT table_rows, data_length + index_length FROM information_schema.tables
+                    WHERE table_schema = database() AND table_name = 'ids_bench'
+                    """)) {
+                rs.next();
+                System.out.printf("%n%s: %d rows, %d KiB%n", generator, rs.getLong(1), rs.getLong(2) / 1024);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(16);
+        private Connection conn;
+        private PreparedStatement insert;
+
+        @Setup(Level.Trial)
+        public void setUp(final IdInsertBenchmark benchmark) throws SQLException {
+            this.conn = DriverManager.getConnection(benchmark.url, benchmark.user, benchmark.password);
+            this.conn.setAutoCommit(false);
+            this.insert = conn.prepareStatement("INSERT INTO ids_bench (id, ordering) VALUES (?, ?)");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            this.conn.close();
+        }
+    }
+
+    // One operation is a committed batch of BATCH_SIZE rows, as the hot event flush writes them
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insert(final Session session) throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final var id = ids.next();
+            session.insert.setBytes(1, session.buffer.clear().putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array().clone());
+            session.insert.setInt(2, i);
+            session.insert.addBatch();
+        }
+
+        final var rows = session.insert.executeBatch();
+        session.conn.commit();
+        return rows;
+    }
+}
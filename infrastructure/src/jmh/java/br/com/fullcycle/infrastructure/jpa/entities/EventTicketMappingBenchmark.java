@@ -0,0 +1,44 @@
+package br.com.fullcycle.infrastructure.jpa.entities;
+
+import br.com.fullcycle.domain.event.EventTicket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps one ticket between {@link EventTicketEntity} and {@link EventTicket} in both directions, as loading and saving
+ * a big event does for each of its tickets. Run with the GC profiler to see the bytes allocated per ticket:
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=EventTicketMappingBenchmark -Pjmh.profilers=gc</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventTicketMappingBenchmark {
+
+    private EventEntity event;
+    private EventTicketEntity entity;
+    private EventTicket ticket;
+
+    @Setup
+    public void setUp() {
+        this.event = new EventEntity();
+        this.event.setId(UUID.randomUUID());
+        this.entity = new EventTicketEntity(UUID.randomUUID(), UUID.randomUUID(), 1, UUID.randomUUID(), event);
+        this.ticket = entity.toEventTicket();
+    }
+
+    @Benchmark
+    public EventTicket load() {
+        return entity.toEventTicket();
+    }
+
+    @Benchmark
+    public EventTicketEntity store() {
+        return EventTicketEntity.of(event, ticket);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.fullcycle.infrastructure.outbox;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox rows relayed per second by four relays running the same claim and mark statements as
+ * {@link br.com.fullcycle.infrastructure.job.OutboxRelay}, with {@code skipLocked} on or off. Each row costs
+ * {@code publishMillis} inside the transaction, standing in for the broker round trip. Without SKIP LOCKED the
+ * relays queue up behind the lock of the first batch. With it they claim disjoint batches and drain in parallel.
+ * Defaults to H2 in MySQL mode; point {@code url} at a local MySQL to compare:
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=OutboxRelayBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class OutboxRelayBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int ROWS = 50_000;
+
+    @Param({"false", "true"})
+    private boolean skipLocked;
+
+    @Param({"2"})
+    private long publishMillis;
+
+    @Param({"jdbc:h2:mem:outbox;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1"})
+    private String url;
+
+    @Param({"root"})
+    private String user;
+
+    @Param({"root"})
+    private String password;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (var conn = DriverManager.getConnection(url, user, password); var st = conn.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS outbox_bench");
+            st.execute("""
+                    CREATE TABLE outbox_bench (
+                        id BINARY(16) NOT NULL,
+                        published BOOLEAN NOT NULL,
+                        PRIMARY KEY (id)
+                    )
+                    """);
+        }
+    }
+
+    // Refilled every iteration, so the relays never run dry within one
+    @Setup(Level.Iteration)
+    public void refill() throws SQLException {
+        try (var conn = DriverManager.getConnection(url, user, password); var st = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            st.execute("DELETE FROM outbox_bench");
+
+            try (var insert = conn.prepareStatement("INSERT INTO outbox_bench (id, published) VALUES (?, false)")) {
+                final var buffer = ByteBuffer.allocate(16);
+                for (int i = 0; i < ROWS; i++) {
+                    final var id = UUID.randomUUID();
+                    insert.setBytes(1, buffer.clear().putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array().clone());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            conn.commit();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Relay {
+
+        private Connection conn;
+        private PreparedStatement claim;
+        private PreparedStatement mark;
+
+        @Setup(Level.Trial)
+        public void setUp(final OutboxRelayBenchmark benchmark) throws SQLException {
+            this.conn = DriverManager.getConnection(benchmark.url, benchmark.user, benchmark.password);
+            this.conn.setAutoCommit(false);
+            this.claim = conn.prepareStatement("""
+                    SELECT id FROM outbox_bench WHERE published = false ORDER BY id LIMIT %d FOR UPDATE%s
+                    """.formatted(BATCH_SIZE, benchmark.skipLocked ? " SKIP LOCKED" : ""));
+            this.mark = conn.prepareStatement("UPDATE outbox_bench SET published = true WHERE id = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            this.conn.close();
+        }
+    }
+
+    // One operation is one relayed row; a batch is claimed, published and marked in a single transaction
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int relay(final Relay relay) throws SQLException, InterruptedException {
+        final var ids = new ArrayList<byte[]>(BATCH_SIZE);
+
+        try (var rs = relay.claim.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getBytes(1));
+            }
+        }
+
+        for (final var id : ids) {
+            TimeUnit.MILLISECONDS.sleep(publishMillis);
+            relay.mark.setBytes(1, id);
+            relay.mark.addBatch();
+        }
+
+        relay.mark.executeBatch();
+        relay.conn.commit();
+
+        return ids.size();
+    }
+}
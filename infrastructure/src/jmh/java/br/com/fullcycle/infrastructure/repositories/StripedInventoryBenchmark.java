@@ -0,0 +1,117 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reservations per second for a single event with 1, 8 and 32 inventory stripes, running the same statements as
+ * {@link EventInventory}. Defaults to H2 in MySQL mode; point {@code url} at a local MySQL to compare:
+ *
+ * <pre>./gradlew :infrastructure:jmh -Pjmh.includes=StripedInventoryBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class StripedInventoryBenchmark {
+
+    private static final String EVENT_ID = "00000000-0000-0000-0000-000000000001";
+
+    @Param({"1", "8", "32"})
+    private int stripes;
+
+    @Param({"jdbc:h2:mem:inventory;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1"})
+    private String url;
+
+    @Param({"root"})
+    private String user;
+
+    @Param({"root"})
+    private String password;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        try (var conn = DriverManager.getConnection(url, user, password); var st = conn.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS events_stripes_bench");
+            st.execute("""
+                    CREATE TABLE events_stripes_bench (
+                        event_id VARCHAR(36) NOT NULL,
+                        stripe INT NOT NULL,
+                        total_spots INT NOT NULL,
+                        sold_count INT NOT NULL,
+                        PRIMARY KEY (event_id, stripe)
+                    )
+                    """);
+
+            try (var insert = conn.prepareStatement("INSERT INTO events_stripes_bench VALUES (?, ?, ?, 0)")) {
+                for (int i = 0; i < stripes; i++) {
+                    insert.setString(1, EVENT_ID);
+                    insert.setInt(2, i);
+                    insert.setInt(3, Integer.MAX_VALUE / stripes);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Connection conn;
+        private PreparedStatement increment;
+        private PreparedStatement read;
+
+        @Setup(Level.Trial)
+        public void setUp(final StripedInventoryBenchmark benchmark) throws SQLException {
+            this.conn = DriverManager.getConnection(benchmark.url, benchmark.user, benchmark.password);
+            this.conn.setAutoCommit(false);
+            this.increment = conn.prepareStatement("""
+                    UPDATE events_stripes_bench SET sold_count = sold_count + 1
+                    WHERE event_id = ? AND stripe = ? AND sold_count < total_spots
+                    """);
+            this.read = conn.prepareStatement("SELECT sold_count FROM events_stripes_bench WHERE event_id = ? AND stripe = ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            this.conn.close();
+        }
+    }
+
+    @Benchmark
+    public int reserve(final Session session) throws SQLException {
+        final var start = ThreadLocalRandom.current().nextInt(stripes);
+
+        for (int i = 0; i < stripes; i++) {
+            final var stripe = (start + i) % stripes;
+
+            session.increment.setString(1, EVENT_ID);
+            session.increment.setInt(2, stripe);
+
+            if (session.increment.executeUpdate() > 0) {
+                session.read.setString(1, EVENT_ID);
+                session.read.setInt(2, stripe);
+
+                try (var rs = session.read.executeQuery()) {
+                    rs.next();
+                    final var sold = rs.getInt(1);
+                    session.conn.commit();
+                    return sold;
+                }
+            }
+        }
+
+        session.conn.rollback();
+        return -1;
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.fullcycle.infrastructure;
+
+import br.com.fullcycle.application.partner.CreatePartnerUseCase;
+import br.com.fullcycle.application.partner.GetPartnerByIdUseCase;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.infrastructure.configurations.IdConfig;
+import br.com.fullcycle.infrastructure.http.JdkHttpRouter;
+import br.com.fullcycle.infrastructure.repositories.JdbcPartnerRepository;
+import br.com.fullcycle.infrastructure.rest.PartnerFnController;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Lean launch mode: the functional partner routes on the JDK HTTP server, with the use cases wired by hand and no
+// Spring context, component scanning or Hibernate to start. It reads the same application.properties, overridden by
+// system properties: spring.datasource.* for the database, whose schema the Spring Boot app keeps, ids.* for the
+// id generator and lean.http.port and lean.http.threads for the server.
+//
+//   ./gradlew :infrastructure:runLean
+public final class LeanMain implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final ExecutorService executor;
+    private final JdkHttpRouter router;
+
+    private LeanMain(final HikariDataSource dataSource, final ExecutorService executor, final JdkHttpRouter router) {
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.router = router;
+    }
+
+    public static void main(String[] args) throws IOException {
+        final var lean = start(loadProperties());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(lean::close));
+        StartupReport.log("Lean");
+    }
+
+    public static LeanMain start(final Properties properties) throws IOException {
+        Ids.use(IdConfig.generatorOf(
+                properties.getProperty("ids.generator", "uuidv7"),
+                Integer.parseInt(properties.getProperty("ids.tsid.node", "0"))
+        ));
+
+        final var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(properties.getProperty("spring.datasource.url"));
+        dataSource.setUsername(properties.getProperty("spring.datasource.username"));
+        dataSource.setPassword(properties.getProperty("spring.datasource.password"));
+        dataSource.setMaximumPoolSize(Integer.parseInt(properties.getProperty("spring.datasource.hikari.maximum-pool-size", "10")));
+
+        final var partnerRepository = new JdbcPartnerRepository(dataSource);
+        final var partnerFnController = new PartnerFnController(
+                new CreatePartnerUseCase(partnerRepository),
+                new GetPartnerByIdUseCase(partnerRepository)
+        );
+
+        final var mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        final var router = new JdkHttpRouter(mapper);
+        partnerFnController.bind(router);
+
+        final var executor = Executors.newFixedThreadPool(Integer.parseInt(properties.getProperty("lean.http.threads", "64")));
+
+        try {
+            router.start(Integer.parseInt(properties.getProperty("lean.http.port", "8080")), executor);
+        } catch (IOException | RuntimeException ex) {
+            executor.shutdownNow();
+            dataSource.close();
+            throw ex;
+        }
+
+        return new LeanMain(dataSource, executor, router);
+    }
+
+    public int port() {
+        return this.router.port();
+    }
+
+    @Override
+    public void close() {
+        this.router.stop();
+        this.executor.shutdown();
+
+        try {
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.dataSource.close();
+    }
+
+    private static Properties loadProperties() throws IOException {
+        final var properties = new Properties();
+
+        try (final var in = LeanMain.class.getResourceAsStream("/application.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+
+        properties.putAll(System.getProperties());
+
+        return properties;
+    }
+}
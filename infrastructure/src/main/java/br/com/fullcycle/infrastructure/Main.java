@@ -2,6 +2,8 @@ package br.com.fullcycle.infrastructure;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableScheduling
@@ -12,4 +14,9 @@ public class Main {
 		SpringApplication.run(Main.class, args);
 	}
 
+	@EventListener(ApplicationReadyEvent.class)
+	public void ready() {
+		StartupReport.log("Spring Boot");
+	}
+
 }
@@ -0,0 +1,40 @@
+package br.com.fullcycle.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Logs the same startup line for the Spring Boot and the lean launch, so both can be compared on one machine:
+// time since the JVM started and the resident set size, read from /proc where there is one
+public final class StartupReport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupReport.class);
+
+    private StartupReport() {
+    }
+
+    public static void log(final String mode) {
+        final var startupMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        final var rss = residentSetKb();
+
+        LOGGER.info("{} ready in {} ms, RSS {}", mode, startupMillis, rss < 0 ? "unknown" : (rss >> 10) + " MB");
+    }
+
+    private static long residentSetKb() {
+        try {
+            for (final var line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            return -1;
+        }
+
+        return -1;
+    }
+}
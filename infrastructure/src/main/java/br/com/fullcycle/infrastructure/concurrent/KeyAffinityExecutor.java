@@ -0,0 +1,172 @@
+package br.com.fullcycle.infrastructure.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs tasks on a fixed set of single-threaded lanes picked by key: tasks with the same key run one after the other
+// in the order they were submitted, tasks with different keys run in parallel. Each lane has a bounded queue and
+// execute waits up to offerTimeoutMillis while the lane of its key is full, then rejects the task, so whoever
+// produces the tasks is pushed back without being stuck behind a slow lane. Lane threads come from the given
+// factory, daemon platform threads by default. A task that throws is logged, counted in getFailed() and dropped;
+// it is up to the task to report its failure to whoever can retry it.
+public class KeyAffinityExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyAffinityExecutor.class);
+
+    // How often an idle lane looks whether the executor was closed
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Lane[] lanes;
+    private final long offerTimeoutMillis;
+    private final AtomicLong failed;
+    private volatile boolean closed;
+
+    public KeyAffinityExecutor(final String name, final int lanes, final int capacity, final long offerTimeoutMillis) {
+        this(name, lanes, capacity, offerTimeoutMillis, task -> {
+            final var thread = new Thread(task);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public KeyAffinityExecutor(
+            final String name,
+            final int lanes,
+            final int capacity,
+            final long offerTimeoutMillis,
+            final ThreadFactory threadFactory
+    ) {
+        Objects.requireNonNull(threadFactory);
+
+        if (lanes < 1 || capacity < 1) {
+            throw new IllegalArgumentException("lanes and capacity must be at least 1");
+        }
+
+        this.lanes = new Lane[lanes];
+        this.offerTimeoutMillis = Math.max(0, offerTimeoutMillis);
+        this.failed = new AtomicLong();
+
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane(capacity);
+            this.lanes[i].thread = threadFactory.newThread(this.lanes[i]::run);
+            this.lanes[i].thread.setName(name + "-" + i);
+            this.lanes[i].thread.start();
+        }
+    }
+
+    public void execute(final int key, final Runnable task) {
+        if (this.closed) {
+            throw new RejectedExecutionException("Executor closed");
+        }
+
+        final boolean accepted;
+        try {
+            accepted = this.lanes[laneOf(key)].queue.offer(task, this.offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for lane " + laneOf(key), ex);
+        }
+
+        if (!accepted) {
+            throw new RejectedExecutionException(
+                    "Lane %d still full after %d ms".formatted(laneOf(key), this.offerTimeoutMillis)
+            );
+        }
+    }
+
+    // Keys are usually hashes already bucketed by modulo elsewhere, e.g. outbox partitions; the odd multiplier
+    // spreads them again so one partition does not map to a single lane
+    public int laneOf(final int key) {
+        return Math.floorMod(key * 0x9E3779B9, this.lanes.length);
+    }
+
+    public int lanes() {
+        return this.lanes.length;
+    }
+
+    public int depthOf(final int lane) {
+        return this.lanes[lane].queue.size();
+    }
+
+    public long getFailed() {
+        return this.failed.get();
+    }
+
+    // Stops taking tasks and lets every lane drain the ones already queued, waiting up to timeoutMillis in total.
+    // Lanes still busy by then are interrupted and the tasks left in their queues dropped; returns whether every
+    // lane drained in time
+    public boolean close(final long timeoutMillis) throws InterruptedException {
+        this.closed = true;
+
+        final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        var finished = true;
+        for (final var lane : this.lanes) {
+            lane.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadline))));
+
+            if (lane.thread.isAlive()) {
+                lane.thread.interrupt();
+                finished = false;
+            }
+
+            final var dropped = lane.queue.size();
+            if (dropped > 0) {
+                LOGGER.warn("Dropped {} queued tasks of {} on close", dropped, lane.thread.getName());
+            }
+        }
+
+        return finished;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        close(30_000);
+    }
+
+    private static long remainingNanos(final long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private final class Lane {
+
+        private final BlockingQueue<Runnable> queue;
+        private Thread thread;
+
+        private Lane(final int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        // Only leaves once closed with nothing left to run, so a close drains the queue first
+        private void run() {
+            while (true) {
+                final Runnable task;
+                try {
+                    task = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+
+                if (task == null) {
+                    if (closed && this.queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                    LOGGER.error("Task failed on {}", Thread.currentThread().getName(), ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.fullcycle.infrastructure.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Starts a thread per task and lets at most maxConcurrency of them run at once, which costs next to nothing when the
+// factory makes virtual threads. Meant for blocking work in front of a bounded resource such as the connection pool.
+// Tasks past the limit wait in a queue of maxWaiting, first come first served and without a thread of their own;
+// once the queue is full execute() throws RejectedExecutionException, so an overload is turned away instead of
+// piling up.
+public class LimitedExecutor implements Executor {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> waiting;
+    private final int maxConcurrency;
+    private final AtomicLong rejected;
+    private volatile boolean shutdown;
+
+    public LimitedExecutor(final ThreadFactory threadFactory, final int maxConcurrency, final int maxWaiting) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+
+        if (maxWaiting < 1) {
+            throw new IllegalArgumentException("maxWaiting must be at least 1");
+        }
+
+        this.threadFactory = Objects.requireNonNull(threadFactory);
+        this.permits = new Semaphore(maxConcurrency);
+        this.waiting = new ArrayBlockingQueue<>(maxWaiting);
+        this.maxConcurrency = maxConcurrency;
+        this.rejected = new AtomicLong();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        Objects.requireNonNull(task);
+
+        if (this.shutdown) {
+            throw new RejectedExecutionException("Executor shut down");
+        }
+
+        if (this.waiting.isEmpty() && this.permits.tryAcquire()) {
+            start(task);
+            return;
+        }
+
+        if (!this.waiting.offer(task)) {
+            this.rejected.incrementAndGet();
+            throw new RejectedExecutionException("%d tasks running and %d waiting".formatted(this.maxConcurrency, this.waiting.size()));
+        }
+
+        // A task finishing between the checks above may have released its permit before this one was queued
+        drain();
+    }
+
+    // Rejects new tasks from now on; the running and waiting ones still complete
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    public int maxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    public int active() {
+        return this.maxConcurrency - this.permits.availablePermits();
+    }
+
+    public int waiting() {
+        return this.waiting.size();
+    }
+
+    public long rejected() {
+        return this.rejected.get();
+    }
+
+    private void drain() {
+        while (!this.waiting.isEmpty() && this.permits.tryAcquire()) {
+            final var next = this.waiting.poll();
+
+            if (next == null) {
+                this.permits.release();
+                continue;
+            }
+
+            start(next);
+        }
+    }
+
+    // Called holding a permit, which the task gives back when done
+    private void start(final Runnable task) {
+        try {
+            this.threadFactory.newThread(() -> run(task)).start();
+        } catch (RuntimeException | OutOfMemoryError ex) {
+            this.permits.release();
+            this.rejected.incrementAndGet();
+            throw new RejectedExecutionException("Could not start a thread", ex);
+        }
+    }
+
+    private void run(final Runnable task) {
+        try {
+            task.run();
+        } finally {
+            this.permits.release();
+            drain();
+        }
+    }
+}
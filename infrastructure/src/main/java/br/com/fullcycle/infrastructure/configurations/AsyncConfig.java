@@ -0,0 +1,70 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.application.UseCaseExecutor;
+import br.com.fullcycle.infrastructure.concurrent.LimitedExecutor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Where UseCase.executeAsync runs. Use cases block on the database, so instead of the common pool they get
+// usecases.async.threads threads queueing up to usecases.async.queue tasks, past which they fail fast. With
+// usecases.async.virtual-threads=true each one gets a virtual thread instead, with at most
+// usecases.async.max-concurrency running at once and usecases.async.queue waiting.
+//
+// UseCaseExecutor is process-wide, so the executor is installed while the context starts and, when it closes, the
+// one it replaced is put back before this one is shut down. It is not exposed as an Executor bean, which would make
+// Spring Boot back off from its own applicationTaskExecutor.
+@Configuration
+public class AsyncConfig implements DisposableBean {
+
+    private final Executor previous;
+    private final Executor executor;
+
+    public AsyncConfig(
+            @Value("${usecases.async.virtual-threads:false}") final boolean virtualThreads,
+            @Value("${usecases.async.threads:64}") final int threads,
+            @Value("${usecases.async.queue:1000}") final int queue,
+            @Value("${usecases.async.max-concurrency:64}") final int maxConcurrency
+    ) {
+        this.executor = virtualThreads
+                ? new LimitedExecutor(Thread.ofVirtual().name("usecase-", 0).factory(), maxConcurrency, queue)
+                : newThreadPool(threads, queue);
+
+        this.previous = UseCaseExecutor.current();
+        UseCaseExecutor.use(this.executor);
+    }
+
+    @Override
+    public void destroy() {
+        UseCaseExecutor.use(this.previous);
+
+        if (this.executor instanceof LimitedExecutor limited) {
+            limited.shutdown();
+        } else if (this.executor instanceof ThreadPoolExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    private static ThreadPoolExecutor newThreadPool(final int threads, final int queue) {
+        final var threadFactory = new CustomizableThreadFactory("usecase-");
+        threadFactory.setDaemon(true);
+
+        final var executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue),
+                threadFactory
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.domain.IdGenerator;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.infrastructure.ids.TsidIdGenerator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+// ids.generator picks how new ids are made: uuidv7 (default), tsid or random (the old UUIDv4).
+// With tsid every instance needs its own ids.tsid.node.
+//
+// Ids is process-wide, so the generator bean is installed by a single hook once it exists and, when the context
+// closes, the one it replaced is put back.
+@Configuration
+public class IdConfig {
+
+    @Bean
+    public IdGenerator idGenerator(
+            @Value("${ids.generator:uuidv7}") final String generator,
+            @Value("${ids.tsid.node:0}") final int node
+    ) {
+        return generatorOf(generator, node);
+    }
+
+    @Bean
+    public IdsInstaller idsInstaller(final IdGenerator idGenerator) {
+        return new IdsInstaller(idGenerator);
+    }
+
+    public static IdGenerator generatorOf(final String generator, final int node) {
+        return switch (generator) {
+            case "uuidv7" -> IdGenerator.uuidV7();
+            case "tsid" -> new TsidIdGenerator(node);
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalArgumentException("Unknown ids.generator: " + generator);
+        };
+    }
+
+    public static class IdsInstaller implements InitializingBean, DisposableBean {
+
+        private final IdGenerator idGenerator;
+        private IdGenerator previous;
+
+        public IdsInstaller(final IdGenerator idGenerator) {
+            this.idGenerator = Objects.requireNonNull(idGenerator);
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            this.previous = Ids.current();
+            Ids.use(this.idGenerator);
+        }
+
+        @Override
+        public void destroy() {
+            Ids.use(this.previous);
+        }
+    }
+}
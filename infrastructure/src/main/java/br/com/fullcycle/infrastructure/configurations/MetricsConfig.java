@@ -0,0 +1,127 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.application.event.GroupCommitSubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.infrastructure.concurrent.KeyAffinityExecutor;
+import br.com.fullcycle.infrastructure.job.OutboxCompactor;
+import br.com.fullcycle.infrastructure.job.OutboxRelay;
+import br.com.fullcycle.infrastructure.job.TicketHoldExpiry;
+import br.com.fullcycle.infrastructure.job.WaitlistPromoter;
+import br.com.fullcycle.infrastructure.repositories.HotEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder subscribeCustomerToEventMetrics(final SubscribeCustomerToEventUseCase useCase) {
+        return registry -> {
+            FunctionCounter.builder("events.subscribe.conflicts", useCase, SubscribeCustomerToEventUseCase::getConflicts)
+                    .description("Reservations that hit a concurrent change of the event")
+                    .register(registry);
+
+            FunctionCounter.builder("events.subscribe.retries", useCase, SubscribeCustomerToEventUseCase::getRetries)
+                    .description("Reservations retried after a conflict")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder groupCommitSubscribeCustomerToEventMetrics(final GroupCommitSubscribeCustomerToEventUseCase useCase) {
+        return registry -> {
+            FunctionCounter.builder("events.subscribe.group-commits", useCase, GroupCommitSubscribeCustomerToEventUseCase::getCommits)
+                    .description("Event updates written on behalf of a batch of subscriptions")
+                    .register(registry);
+
+            FunctionCounter.builder("events.subscribe.group-commit.fallbacks", useCase, GroupCommitSubscribeCustomerToEventUseCase::getFallbacks)
+                    .description("Subscriptions resolved one by one after their batch failed")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder hotEventMetrics(final HotEventRepository hotEventRepository) {
+        return registry -> FunctionCounter.builder("events.hot.dead-lettered", hotEventRepository, HotEventRepository::getDeadLettered)
+                .description("Hot event reservations given up on and moved to events_dead_reservations")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder waitlistMetrics(final WaitlistPromoter waitlistPromoter) {
+        return registry -> {
+            FunctionCounter.builder("events.waitlist.promoted", waitlistPromoter, WaitlistPromoter::getPromoted)
+                    .description("Customers moved from a waitlist to a reserved seat")
+                    .register(registry);
+
+            FunctionCounter.builder("events.waitlist.failures", waitlistPromoter, WaitlistPromoter::getFailures)
+                    .description("Waitlist promotions that failed and were put back to retry")
+                    .register(registry);
+
+            FunctionCounter.builder("events.waitlist.abandoned", waitlistPromoter, WaitlistPromoter::getAbandoned)
+                    .description("Waitlists given up on after too many failed promotions in a row")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder ticketHoldMetrics(final TicketHoldExpiry ticketHoldExpiry) {
+        return registry -> Gauge.builder("tickets.holds.pending", ticketHoldExpiry, TicketHoldExpiry::pending)
+                .description("Reservation holds waiting for payment or expiry")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder outboxRelayMetrics(final OutboxRelay outboxRelay) {
+        return registry -> {
+            FunctionCounter.builder("outbox.relay.rows", outboxRelay, OutboxRelay::getRelayed)
+                    .description("Outbox rows the queue confirmed and marked, its rate is the relay throughput in rows/sec")
+                    .register(registry);
+
+            FunctionCounter.builder("outbox.relay.failed", outboxRelay, OutboxRelay::getFailed)
+                    .description("Deliveries of outbox rows the consumers failed; the rows are retried")
+                    .register(registry);
+
+            FunctionCounter.builder("outbox.relay.dead-lettered", outboxRelay, OutboxRelay::getDeadLettered)
+                    .description("Outbox rows given up after outbox.relay.max-attempts failed deliveries")
+                    .register(registry);
+
+            Gauge.builder("outbox.relay.batch.rows-per-second", outboxRelay, OutboxRelay::getRowsPerSecond)
+                    .description("Rows per second of the last batch, measured from its claim to its mark")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder consumerLaneMetrics(final KeyAffinityExecutor consumerExecutor) {
+        return registry -> {
+            for (int lane = 0; lane < consumerExecutor.lanes(); lane++) {
+                final var index = lane;
+                Gauge.builder("outbox.consumer.lane.depth", consumerExecutor, it -> it.depthOf(index))
+                        .tag("lane", String.valueOf(lane))
+                        .description("Messages waiting on one consumer lane")
+                        .register(registry);
+            }
+
+            FunctionCounter.builder("outbox.consumer.failed", consumerExecutor, KeyAffinityExecutor::getFailed)
+                    .description("Messages whose consumer threw; the relay retries their outbox rows")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder outboxCompactorMetrics(final OutboxCompactor outboxCompactor) {
+        return registry -> {
+            FunctionCounter.builder("outbox.compactor.compacted", outboxCompactor, OutboxCompactor::getCompacted)
+                    .description("Published rows moved out of the pending outbox table")
+                    .register(registry);
+
+            FunctionCounter.builder("outbox.compactor.purged", outboxCompactor, OutboxCompactor::getPurged)
+                    .description("Archived outbox rows deleted after the retention period")
+                    .register(registry);
+        };
+    }
+}
@@ -1,21 +1,32 @@
 package br.com.fullcycle.infrastructure.configurations;
 
+import br.com.fullcycle.infrastructure.concurrent.KeyAffinityExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
 public class OutboxConfig {
 
-    @Bean
-    public TaskExecutor queueExecutor() {
-        var executor = new ThreadPoolTaskExecutor();
-
-        executor.setQueueCapacity(200);
-        executor.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 4);
-        executor.setCorePoolSize(2);
+    // One lane per core unless outbox.consumer.lanes says otherwise; lanes run on the consumerThreadFactory when a
+    // profile such as virtual-threads provides one. Closed after the OutboxRelay that feeds it, so the lanes drain
+    // what the relay handed them before shutting down
+    @Bean(destroyMethod = "close")
+    public KeyAffinityExecutor consumerExecutor(
+            @Value("${outbox.consumer.lanes:0}") final int lanes,
+            @Value("${outbox.consumer.lane-capacity:1000}") final int laneCapacity,
+            @Value("${outbox.consumer.offer-timeout-ms:1000}") final long offerTimeoutMillis,
+            @Qualifier("consumerThreadFactory") final ObjectProvider<ThreadFactory> consumerThreadFactory
+    ) {
+        final var laneCount = lanes > 0 ? lanes : Runtime.getRuntime().availableProcessors();
+        final var threadFactory = consumerThreadFactory.getIfAvailable();
 
-        return executor;
+        return threadFactory != null
+                ? new KeyAffinityExecutor("outbox-consumer", laneCount, laneCapacity, offerTimeoutMillis, threadFactory)
+                : new KeyAffinityExecutor("outbox-consumer", laneCount, laneCapacity, offerTimeoutMillis);
     }
 }
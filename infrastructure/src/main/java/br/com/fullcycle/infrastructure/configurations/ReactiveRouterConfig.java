@@ -0,0 +1,62 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.infrastructure.http.WebFluxHttpRouter;
+import br.com.fullcycle.infrastructure.rest.PartnerFnController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+// Frameworks and Drivers
+//
+// Serves the functional routes from a Netty server on http.reactive.port, next to the servlet container, when
+// http.reactive.enabled is set. Idle and slow connections only cost the event loop; the blocking handlers share
+// http.reactive.blocking-threads threads with up to http.reactive.blocking-queue requests waiting for one.
+@Configuration
+@ConditionalOnProperty(name = "http.reactive.enabled", havingValue = "true")
+public class ReactiveRouterConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler httpBlockingScheduler(
+            @Value("${http.reactive.blocking-threads:64}") final int threads,
+            @Value("${http.reactive.blocking-queue:10000}") final int queue
+    ) {
+        return Schedulers.newBoundedElastic(threads, queue, "http-blocking");
+    }
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveServer(
+            final PartnerFnController partnerFnController,
+            final Scheduler httpBlockingScheduler,
+            final ObjectMapper mapper,
+            @Value("${http.reactive.port:8081}") final int port
+    ) {
+        final var router = new WebFluxHttpRouter(httpBlockingScheduler, mapper);
+
+        partnerFnController.bind(router);
+
+        // Responses are written with the application's mapper, as the servlet routes are
+        final var strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+                })
+                .build();
+        final var handler = RouterFunctions.toHttpHandler(router.getRouter().build(), strategies);
+
+        return HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(handler))
+                .bindNow();
+    }
+}
@@ -1,23 +1,35 @@
 package br.com.fullcycle.infrastructure.configurations;
 
+import br.com.fullcycle.infrastructure.http.HttpRouter;
 import br.com.fullcycle.infrastructure.http.SpringHttpRouter;
+import br.com.fullcycle.infrastructure.http.TrieHttpRouter;
 import br.com.fullcycle.infrastructure.rest.PartnerFnController;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.function.RouterFunction;
 
 // Frameworks and Drivers
+//
+// http.router picks how the functional routes are matched: spring (default), the RouterFunctions builder, or the
+// opt-in trie
 @Configuration
 public class RouterConfig {
 
     @Bean
     public RouterFunction<?> routes(
-            final PartnerFnController partnerFnController
+            final PartnerFnController partnerFnController,
+            @Value("${http.router:spring}") final String router
     ) {
-        final var router = new SpringHttpRouter();
+        return switch (router) {
+            case "trie" -> bind(partnerFnController, new TrieHttpRouter()).build();
+            case "spring" -> bind(partnerFnController, new SpringHttpRouter()).getRouter().build();
+            default -> throw new IllegalArgumentException("Unknown http.router: " + router);
+        };
+    }
 
+    private static <R extends HttpRouter> R bind(final PartnerFnController partnerFnController, final R router) {
         partnerFnController.bind(router);
-
-        return router.getRouter().build();
+        return router;
     }
 }
@@ -1,19 +1,29 @@
 package br.com.fullcycle.infrastructure.configurations;
 
+import br.com.fullcycle.application.UnitOfWork;
 import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.application.ticket.ExpireTicketHoldsUseCase;
 import br.com.fullcycle.domain.customer.CustomerRepository;
 import br.com.fullcycle.domain.event.EventRepository;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
 import br.com.fullcycle.domain.partner.PartnerRepository;
 import br.com.fullcycle.application.customer.CreateCustomerUseCase;
 import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.GroupCommitSubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.JoinWaitlistUseCase;
+import br.com.fullcycle.application.event.PromoteWaitlistUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.SubscribeCustomersToEventUseCase;
+import br.com.fullcycle.application.event.WaitlistPromotions;
 import br.com.fullcycle.application.partner.CreatePartnerUseCase;
 import br.com.fullcycle.application.partner.GetPartnerByIdUseCase;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
@@ -23,17 +33,23 @@ public class UseCaseConfig {
     private final EventRepository eventRepository;
     private final PartnerRepository partnerRepository;
     private final TicketRepository ticketRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final UnitOfWork unitOfWork;
 
     public UseCaseConfig(
             final CustomerRepository customerRepository,
             final EventRepository eventRepository,
             final PartnerRepository partnerRepository,
-            final TicketRepository ticketRepository
+            final TicketRepository ticketRepository,
+            final WaitlistRepository waitlistRepository,
+            final UnitOfWork unitOfWork
     ) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
         this.partnerRepository = Objects.requireNonNull(partnerRepository);
         this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
     }
 
     @Bean
@@ -62,12 +78,57 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase() {
-        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+    public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase(
+            @Value("${events.subscribe.max-attempts:3}") final int maxAttempts,
+            @Value("${events.subscribe.backoff:20ms}") final Duration backoff
+    ) {
+        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, waitlistRepository, maxAttempts, backoff);
+    }
+
+    @Bean
+    public GroupCommitSubscribeCustomerToEventUseCase groupCommitSubscribeCustomerToEventUseCase(
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            @Value("${events.subscribe.group-commit.window:2ms}") final Duration window,
+            @Value("${events.subscribe.group-commit.max-batch-size:128}") final int maxBatchSize
+    ) {
+        return new GroupCommitSubscribeCustomerToEventUseCase(
+                customerRepository,
+                eventRepository,
+                waitlistRepository,
+                subscribeCustomerToEventUseCase,
+                window,
+                maxBatchSize
+        );
+    }
+
+    @Bean
+    public SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase(
+            @Value("${events.subscribe.bulk.max-customers:500}") final int maxCustomers,
+            @Value("${events.subscribe.max-attempts:3}") final int maxAttempts
+    ) {
+        return new SubscribeCustomersToEventUseCase(customerRepository, eventRepository, waitlistRepository, maxCustomers, maxAttempts);
+    }
+
+    @Bean
+    public JoinWaitlistUseCase joinWaitlistUseCase(final WaitlistPromotions waitlistPromotions) {
+        return new JoinWaitlistUseCase(customerRepository, eventRepository, waitlistRepository, waitlistPromotions);
+    }
+
+    @Bean
+    public PromoteWaitlistUseCase promoteWaitlistUseCase(
+            @Value("${events.waitlist.batch-size:500}") final int batchSize,
+            @Value("${events.subscribe.max-attempts:3}") final int maxAttempts
+    ) {
+        return new PromoteWaitlistUseCase(eventRepository, waitlistRepository, batchSize, maxAttempts);
     }
 
     @Bean
     public CreateTicketForCustomerUseCase createTicketForCustomerUseCase() {
         return new CreateTicketForCustomerUseCase(ticketRepository);
     }
+
+    @Bean
+    public ExpireTicketHoldsUseCase expireTicketHoldsUseCase() {
+        return new ExpireTicketHoldsUseCase(ticketRepository, eventRepository, unitOfWork);
+    }
 }
@@ -0,0 +1,81 @@
+package br.com.fullcycle.infrastructure.configurations;
+
+import br.com.fullcycle.infrastructure.http.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// Runs requests, outbox consumer lanes and scheduled jobs on virtual threads, activated with the virtual-threads
+// profile. Blocking on JDBC then no longer ties up a pooled platform thread, so the limits that matter are the ones
+// in front of the connection pool: threads.virtual.max-requests concurrent requests with up to
+// threads.virtual.max-waiting more queued behind them, the outbox.consumer.lanes lanes and
+// threads.virtual.scheduler-threads jobs. application-virtual-threads.properties sizes them together with the pool.
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig implements DisposableBean {
+
+    // Not a bean: an Executor bean would make Spring Boot back off from its own applicationTaskExecutor
+    private final ExecutorService requestExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 0).factory());
+
+    // Tomcat keeps accepting connections, up to server.tomcat.max-connections, and hands every request to its own
+    // virtual thread; the filter below decides how many of them may go on
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadRequests() {
+        return protocolHandler -> protocolHandler.setExecutor(this.requestExecutor);
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            @Value("${threads.virtual.max-requests:64}") final int maxRequests,
+            @Value("${threads.virtual.max-waiting:1000}") final int maxWaiting
+    ) {
+        return new ConcurrencyLimitFilter(maxRequests, maxWaiting);
+    }
+
+    @Bean
+    public ThreadFactory consumerThreadFactory() {
+        return Thread.ofVirtual().name("outbox-consumer-", 0).factory();
+    }
+
+    // Widens Spring Boot's single-threaded scheduler, so a job waiting on the database does not hold back the others
+    @Bean
+    public TaskSchedulerCustomizer virtualThreadScheduler(@Value("${threads.virtual.scheduler-threads:4}") final int schedulerThreads) {
+        return scheduler -> {
+            scheduler.setPoolSize(Math.max(1, schedulerThreads));
+            scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 0).factory());
+        };
+    }
+
+    @Override
+    public void destroy() {
+        this.requestExecutor.shutdown();
+    }
+
+    @Bean
+    public MeterBinder requestLimitMetrics(final ConcurrencyLimitFilter concurrencyLimitFilter) {
+        return registry -> {
+            Gauge.builder("threads.virtual.requests.active", concurrencyLimitFilter, ConcurrencyLimitFilter::active)
+                    .description("Requests running on virtual threads")
+                    .register(registry);
+
+            Gauge.builder("threads.virtual.requests.waiting", concurrencyLimitFilter, ConcurrencyLimitFilter::waiting)
+                    .description("Requests waiting for one of threads.virtual.max-requests permits")
+                    .register(registry);
+
+            FunctionCounter.builder("threads.virtual.requests.rejected", concurrencyLimitFilter, ConcurrencyLimitFilter::rejected)
+                    .description("Requests answered 503 because threads.virtual.max-waiting were already waiting")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.fullcycle.infrastructure.dtos;
+
+import java.util.List;
+
+public record BulkSubscribeDTO (String eventId, List<String> customerIds) { }
@@ -1,45 +1,93 @@
 package br.com.fullcycle.infrastructure.gateways;
 
 import br.com.fullcycle.application.ticket.CreateTicketForCustomerUseCase;
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.event.EventTicketReleased;
 import br.com.fullcycle.domain.event.EventTicketReserved;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.scheduling.annotation.Async;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.infrastructure.concurrent.KeyAffinityExecutor;
+import br.com.fullcycle.infrastructure.job.TicketHoldExpiry;
+import br.com.fullcycle.infrastructure.job.WaitlistPromoter;
+import br.com.fullcycle.infrastructure.outbox.DomainEventCodec;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Component
 public class ConsumerQueueGateway implements QueueGateway {
 
     private final CreateTicketForCustomerUseCase createTicketForCustomerUseCase;
-    private final ObjectMapper mapper;
+    private final TicketHoldExpiry ticketHoldExpiry;
+    private final WaitlistPromoter waitlistPromoter;
+    private final KeyAffinityExecutor consumerExecutor;
+    private final DomainEventCodec domainEventCodec;
+    private final Map<String, Consumer<DomainEvent>> handlers;
 
-    public ConsumerQueueGateway(CreateTicketForCustomerUseCase createTicketForCustomerUseCase, final ObjectMapper mapper) {
+    public ConsumerQueueGateway(
+            final CreateTicketForCustomerUseCase createTicketForCustomerUseCase,
+            final TicketHoldExpiry ticketHoldExpiry,
+            final WaitlistPromoter waitlistPromoter,
+            final KeyAffinityExecutor consumerExecutor,
+            final DomainEventCodec domainEventCodec
+    ) {
         this.createTicketForCustomerUseCase = Objects.requireNonNull(createTicketForCustomerUseCase);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.ticketHoldExpiry = Objects.requireNonNull(ticketHoldExpiry);
+        this.waitlistPromoter = Objects.requireNonNull(waitlistPromoter);
+        this.consumerExecutor = Objects.requireNonNull(consumerExecutor);
+        this.domainEventCodec = Objects.requireNonNull(domainEventCodec);
+        this.handlers = Map.of(
+                "event-ticket.reserved", it -> ticketReserved((EventTicketReserved) it),
+                "event-ticket.released", it -> ticketReleased((EventTicketReleased) it)
+        );
     }
 
-    @Async(value = "queueExecutor")
+    // The key is the hash of the aggregate id: messages of one event are consumed in order on the same lane, while
+    // messages of different events are consumed in parallel. Types without a handler are dropped before decoding.
+    // The future completes when the handler returns and fails when it throws or its lane stays full
     @Override
-    public void publish(String content) {
-        if (content == null) {
-            return;
+    public CompletableFuture<Void> publish(final QueueMessage message) {
+        if (message.json() == null && message.binary() == null) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        if (content.contains("event-ticket.reserved")) {
-            final var dto = safeRead(content, EventTicketReserved.class);
-            this.createTicketForCustomerUseCase.execute(
-                    new CreateTicketForCustomerUseCase.Input(dto.eventTicketId(), dto.eventId(), dto.customerId())
-            );
+        final var type = message.type() != null ? message.type() : this.domainEventCodec.typeOf(message.json());
+        final var handler = this.handlers.get(type);
+
+        if (handler == null) {
+            return CompletableFuture.completedFuture(null);
         }
-    }
 
-    private <T> T safeRead(final String content, final Class<T> tClass) {
+        final var consumed = new CompletableFuture<Void>();
+
         try {
-            return this.mapper.readValue(content, tClass);
-        } catch (JsonProcessingException error) {
-            throw new RuntimeException(error);
+            this.consumerExecutor.execute(message.key(), () -> {
+                try {
+                    handler.accept(this.domainEventCodec.decode(type, message.schemaVersion(), message.json(), message.binary()));
+                    consumed.complete(null);
+                } catch (RuntimeException ex) {
+                    consumed.completeExceptionally(ex);
+                    throw ex;
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            consumed.completeExceptionally(ex);
         }
+
+        return consumed;
+    }
+
+    private void ticketReserved(final EventTicketReserved dto) {
+        final var output = this.createTicketForCustomerUseCase.execute(
+                new CreateTicketForCustomerUseCase.Input(dto.eventTicketId(), dto.eventId(), dto.customerId())
+        );
+        this.ticketHoldExpiry.hold(TicketId.with(output.ticketId()), dto.occurredOn());
+    }
+
+    private void ticketReleased(final EventTicketReleased dto) {
+        this.waitlistPromoter.seatsReleased(dto.eventId());
     }
 }
@@ -1,6 +1,10 @@
 package br.com.fullcycle.infrastructure.gateways;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface QueueGateway {
 
-    void publish(String content);
+    // Messages published with the same key are consumed in the order they were published. The future completes once
+    // the message was consumed, or taken over by a broker, and fails when it could not be
+    CompletableFuture<Void> publish(QueueMessage message);
 }
@@ -0,0 +1,6 @@
+package br.com.fullcycle.infrastructure.gateways;
+
+// An outbox row as handed to the consumers: the key orders it, the type selects its handler and exactly one of
+// json and binary carries the event, in the schema version it was written with
+public record QueueMessage(int key, String type, int schemaVersion, String json, byte[] binary) {
+}
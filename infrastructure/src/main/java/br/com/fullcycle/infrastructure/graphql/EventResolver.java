@@ -1,13 +1,16 @@
 package br.com.fullcycle.infrastructure.graphql;
 
+import br.com.fullcycle.infrastructure.dtos.BulkSubscribeDTO;
 import br.com.fullcycle.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.infrastructure.dtos.SubscribeDTO;
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.GroupCommitSubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.JoinWaitlistUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.SubscribeCustomersToEventUseCase;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 
@@ -15,14 +18,20 @@ import java.util.Objects;
 public class EventResolver {
 
     private final CreateEventUseCase createEventUseCase;
-    private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final GroupCommitSubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase;
+    private final JoinWaitlistUseCase joinWaitlistUseCase;
 
     public EventResolver(
             final CreateEventUseCase createEventUseCase,
-            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase
+            final GroupCommitSubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase,
+            final JoinWaitlistUseCase joinWaitlistUseCase
     ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.subscribeCustomersToEventUseCase = Objects.requireNonNull(subscribeCustomersToEventUseCase);
+        this.joinWaitlistUseCase = Objects.requireNonNull(joinWaitlistUseCase);
     }
 
     @MutationMapping
@@ -31,10 +40,21 @@ public class EventResolver {
                 .execute(new CreateEventUseCase.Input(input.date(), input.name(), input.partnerId(), input.totalSpots()));
     }
 
-    @Transactional
     @MutationMapping
     public SubscribeCustomerToEventUseCase.Output subscribeCustomerToEvent(@Argument SubscribeDTO input) {
         return subscribeCustomerToEventUseCase
                 .execute(new SubscribeCustomerToEventUseCase.Input(input.eventId(), input.customerId()));
     }
+
+    @MutationMapping
+    public SubscribeCustomersToEventUseCase.Output subscribeCustomersToEvent(@Argument BulkSubscribeDTO input) {
+        return subscribeCustomersToEventUseCase
+                .execute(new SubscribeCustomersToEventUseCase.Input(input.eventId(), input.customerIds()));
+    }
+
+    @MutationMapping
+    public JoinWaitlistUseCase.Output joinWaitlist(@Argument SubscribeDTO input) {
+        return joinWaitlistUseCase
+                .execute(new JoinWaitlistUseCase.Input(input.eventId(), input.customerId()));
+    }
 }
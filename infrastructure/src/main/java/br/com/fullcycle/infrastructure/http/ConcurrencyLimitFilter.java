@@ -0,0 +1,91 @@
+package br.com.fullcycle.infrastructure.http;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lets at most maxRequests requests in at once and up to maxWaiting more wait for a turn, first come first served;
+// past that a request is answered 503 straight away instead of parking one more thread
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting;
+    private final AtomicLong rejected;
+    private final int maxRequests;
+    private final int maxWaiting;
+
+    public ConcurrencyLimitFilter(final int maxRequests, final int maxWaiting) {
+        if (maxRequests < 1) {
+            throw new IllegalArgumentException("maxRequests must be at least 1");
+        }
+
+        if (maxWaiting < 0) {
+            throw new IllegalArgumentException("maxWaiting cannot be negative");
+        }
+
+        this.permits = new Semaphore(maxRequests, true);
+        this.waiting = new AtomicInteger();
+        this.rejected = new AtomicLong();
+        this.maxRequests = maxRequests;
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!acquire()) {
+            this.rejected.incrementAndGet();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    public int active() {
+        return this.maxRequests - this.permits.availablePermits();
+    }
+
+    public int waiting() {
+        return this.waiting.get();
+    }
+
+    public long rejected() {
+        return this.rejected.get();
+    }
+
+    private boolean acquire() {
+        if (this.permits.tryAcquire()) {
+            return true;
+        }
+
+        if (this.waiting.incrementAndGet() > this.maxWaiting) {
+            this.waiting.decrementAndGet();
+            return false;
+        }
+
+        try {
+            this.permits.acquire();
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            this.waiting.decrementAndGet();
+        }
+    }
+}
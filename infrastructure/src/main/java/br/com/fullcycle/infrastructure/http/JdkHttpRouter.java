@@ -0,0 +1,167 @@
+package br.com.fullcycle.infrastructure.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+// HttpRouter on the JDK's built-in HTTP server, for the lean launch mode: no servlet container and no framework,
+// just the routes bound to it, compiled into a RouteTrie.
+public class JdkHttpRouter implements HttpRouter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdkHttpRouter.class);
+
+    private final RouteTrie<HttpHandler<?>> routes;
+    private final ObjectMapper mapper;
+    private HttpServer server;
+
+    public JdkHttpRouter(final ObjectMapper mapper) {
+        this.routes = new RouteTrie<>();
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public <T> HttpRouter POST(String pattern, HttpHandler<T> handler) {
+        this.routes.add("POST", pattern, handler);
+
+        return this;
+    }
+
+    @Override
+    public <T> HttpRouter GET(String pattern, HttpHandler<T> handler) {
+        this.routes.add("GET", pattern, handler);
+
+        return this;
+    }
+
+    public synchronized JdkHttpRouter start(final int port, final Executor executor) throws IOException {
+        if (this.server != null) {
+            throw new IllegalStateException("Router already started");
+        }
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext("/", this::dispatch);
+        this.server.setExecutor(executor);
+        this.server.start();
+
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+    }
+
+    public int port() {
+        return this.server.getAddress().getPort();
+    }
+
+    private void dispatch(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var match = this.routes.newMatch();
+
+            final var path = exchange.getRequestURI().getRawPath();
+
+            if (!this.routes.match(exchange.getRequestMethod(), path, match)) {
+                notMatched(exchange, path);
+                return;
+            }
+
+            handle(exchange, match);
+        }
+    }
+
+    // 405 with the methods the path does take, 404 when no route has it
+    private void notMatched(final HttpExchange exchange, final String path) throws IOException {
+        final var allowed = this.routes.methodsFor(path);
+
+        if (allowed.isEmpty()) {
+            write(exchange, 404, Map.of(), null);
+            return;
+        }
+
+        write(exchange, 405, Map.of("Allow", String.join(", ", allowed)), null);
+    }
+
+    private void handle(final HttpExchange exchange, final RouteTrie.Match<HttpHandler<?>> match) throws IOException {
+        try {
+            final var res = match.value().handle(new JdkHttpRequest(exchange, match, this.mapper));
+            write(exchange, res.statusCode(), res.headers(), res.body());
+        } catch (Throwable error) {
+            LOGGER.error("Unexpected error at %s".formatted(match.pattern()), error);
+            write(exchange, 500, Map.of(), "Unexpected error");
+        }
+    }
+
+    private void write(final HttpExchange exchange, final int status, final Map<String, String> headers, final Object body) throws IOException {
+        headers.forEach(exchange.getResponseHeaders()::add);
+
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        final byte[] bytes;
+        if (body instanceof String aString) {
+            exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=UTF-8");
+            bytes = aString.getBytes(StandardCharsets.UTF_8);
+        } else {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            bytes = this.mapper.writeValueAsBytes(body);
+        }
+
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    public record JdkHttpRequest(HttpExchange exchange, RouteTrie.Match<?> match, ObjectMapper mapper) implements HttpRequest {
+
+        @Override
+        public <T> T body(final Class<T> tClass) {
+            try {
+                return mapper.readValue(exchange.getRequestBody(), tClass);
+            } catch (Throwable error) {
+                throw new RuntimeException(error);
+            }
+        }
+
+        @Override
+        public String pathParams(String name) {
+            // A + in a path is a plus, not an encoded space as in a query string
+            final var value = match.param(name);
+            return value != null ? URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8) : null;
+        }
+
+        @Override
+        public Optional<String> queryParams(String name) {
+            final var query = exchange.getRequestURI().getRawQuery();
+
+            if (query == null) {
+                return Optional.empty();
+            }
+
+            for (final var pair : query.split("&")) {
+                final var separator = pair.indexOf('=');
+                final var key = separator < 0 ? pair : pair.substring(0, separator);
+
+                if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                    return Optional.of(separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+
+            return Optional.empty();
+        }
+    }
+}
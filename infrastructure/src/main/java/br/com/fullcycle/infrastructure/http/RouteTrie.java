@@ -0,0 +1,319 @@
+package br.com.fullcycle.infrastructure.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+// Route patterns compiled into a trie of path segments. A lookup walks the request path once, comparing each
+// segment in place against the sorted static children and recording {name} segments as offsets into the path
+// instead of copying them; the walk itself allocates nothing, the Match it fills is up to the caller. Static segments
+// take precedence over parameters, falling back to the parameter when the static branch leads nowhere; paths must
+// match exactly, trailing slash included.
+public final class RouteTrie<V> {
+
+    private final Node<V> root;
+    private int maxParams;
+
+    public RouteTrie() {
+        this.root = new Node<>();
+    }
+
+    public RouteTrie<V> add(final String method, final String pattern, final V value) {
+        Objects.requireNonNull(method);
+        Objects.requireNonNull(value);
+
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Pattern must start with /: " + pattern);
+        }
+
+        var node = this.root;
+        final var names = new ArrayList<String>();
+
+        final var segments = pattern.equals("/") ? new String[0] : pattern.substring(1).split("/", -1);
+
+        for (final var segment : segments) {
+            if (segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}")) {
+                final var name = segment.substring(1, segment.length() - 1);
+
+                if (names.contains(name)) {
+                    throw new IllegalArgumentException("Duplicated parameter %s in %s".formatted(name, pattern));
+                }
+
+                names.add(name);
+                node = node.paramChild();
+            } else {
+                node = node.staticChild(segment);
+            }
+        }
+
+        node.put(method, new Route<>(pattern, names.toArray(String[]::new), value));
+        this.maxParams = Math.max(this.maxParams, names.size());
+
+        return this;
+    }
+
+    public Match<V> newMatch() {
+        return new Match<>(this.maxParams);
+    }
+
+    public boolean match(final String method, final String path, final Match<V> match) {
+        match.reset(path);
+
+        if (path.equals("/")) {
+            return accept(this.root, method, match);
+        }
+
+        return walk(this.root, method, path, 0, 0, match);
+    }
+
+    // Methods of the routes whose pattern matches the path, for an Allow header when the one asked for is not among
+    // them; empty when no route has the path at all
+    public Set<String> methodsFor(final String path) {
+        final var methods = new LinkedHashSet<String>();
+
+        if (path.equals("/")) {
+            Collections.addAll(methods, this.root.methods);
+        } else {
+            collect(this.root, path, 0, methods);
+        }
+
+        return methods;
+    }
+
+    private void collect(final Node<V> node, final String path, final int pos, final Set<String> methods) {
+        if (pos == path.length()) {
+            Collections.addAll(methods, node.methods);
+            return;
+        }
+
+        if (path.charAt(pos) != '/') {
+            return;
+        }
+
+        final var start = pos + 1;
+        var end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        final var child = node.findStatic(path, start, end);
+        if (child != null) {
+            collect(child, path, end, methods);
+        }
+
+        if (node.param != null && end > start) {
+            collect(node.param, path, end, methods);
+        }
+    }
+
+    private boolean walk(final Node<V> node, final String method, final String path, final int pos, final int params, final Match<V> match) {
+        if (pos == path.length()) {
+            return accept(node, method, match);
+        }
+
+        if (path.charAt(pos) != '/') {
+            return false;
+        }
+
+        final var start = pos + 1;
+        var end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        final var child = node.findStatic(path, start, end);
+        if (child != null && walk(child, method, path, end, params, match)) {
+            return true;
+        }
+
+        if (node.param != null && end > start && params < match.starts.length) {
+            match.starts[params] = start;
+            match.ends[params] = end;
+            return walk(node.param, method, path, end, params + 1, match);
+        }
+
+        return false;
+    }
+
+    private boolean accept(final Node<V> node, final String method, final Match<V> match) {
+        final var route = node.routeFor(method);
+
+        if (route == null) {
+            return false;
+        }
+
+        match.route = route;
+        return true;
+    }
+
+    // Per-lookup state: the route found and where each of its parameters starts and ends in the path
+    public static final class Match<V> {
+
+        private final int[] starts;
+        private final int[] ends;
+        private String path;
+        private Route<V> route;
+
+        private Match(final int maxParams) {
+            this.starts = new int[maxParams];
+            this.ends = new int[maxParams];
+        }
+
+        private void reset(final String aPath) {
+            this.path = aPath;
+            this.route = null;
+        }
+
+        public V value() {
+            return this.route != null ? this.route.value : null;
+        }
+
+        public String pattern() {
+            return this.route != null ? this.route.pattern : null;
+        }
+
+        public int paramCount() {
+            return this.route != null ? this.route.params.length : 0;
+        }
+
+        public String paramName(final int index) {
+            return this.route.params[index];
+        }
+
+        public int paramStart(final int index) {
+            return this.starts[index];
+        }
+
+        public int paramEnd(final int index) {
+            return this.ends[index];
+        }
+
+        // Only copies the parameter asked for, out of the path it was matched in
+        public String param(final String name) {
+            if (this.route == null) {
+                return null;
+            }
+
+            for (int i = 0; i < this.route.params.length; i++) {
+                if (this.route.params[i].equals(name)) {
+                    return this.path.substring(this.starts[i], this.ends[i]);
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private record Route<V>(String pattern, String[] params, V value) {}
+
+    private static final class Node<V> {
+
+        private String[] segments = new String[0];
+        private Node<V>[] children = newNodes(0);
+        private Node<V> param;
+        private String[] methods = new String[0];
+        private Route<V>[] routes = newRoutes(0);
+
+        private Node<V> staticChild(final String segment) {
+            final var index = Arrays.binarySearch(this.segments, segment);
+
+            if (index >= 0) {
+                return this.children[index];
+            }
+
+            final var insertAt = -index - 1;
+            final var child = new Node<V>();
+
+            this.segments = insert(this.segments, insertAt, segment, new String[this.segments.length + 1]);
+            this.children = insert(this.children, insertAt, child, newNodes(this.children.length + 1));
+
+            return child;
+        }
+
+        private Node<V> paramChild() {
+            if (this.param == null) {
+                this.param = new Node<>();
+            }
+
+            return this.param;
+        }
+
+        private void put(final String method, final Route<V> route) {
+            for (final var it : this.methods) {
+                if (it.equals(method)) {
+                    throw new IllegalArgumentException("Route %s %s conflicts with an existing one".formatted(method, route.pattern));
+                }
+            }
+
+            this.methods = Arrays.copyOf(this.methods, this.methods.length + 1);
+            this.methods[this.methods.length - 1] = method;
+            this.routes = Arrays.copyOf(this.routes, this.routes.length + 1);
+            this.routes[this.routes.length - 1] = route;
+        }
+
+        private Route<V> routeFor(final String method) {
+            for (int i = 0; i < this.methods.length; i++) {
+                if (this.methods[i].equals(method)) {
+                    return this.routes[i];
+                }
+            }
+
+            return null;
+        }
+
+        // Binary search over the sorted segments, comparing against the path region without copying it
+        private Node<V> findStatic(final String path, final int start, final int end) {
+            var low = 0;
+            var high = this.segments.length - 1;
+
+            while (low <= high) {
+                final var mid = (low + high) >>> 1;
+                final var cmp = compare(this.segments[mid], path, start, end);
+
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return this.children[mid];
+                }
+            }
+
+            return null;
+        }
+
+        private static int compare(final String segment, final String path, final int start, final int end) {
+            final var length = Math.min(segment.length(), end - start);
+
+            for (int i = 0; i < length; i++) {
+                final var diff = segment.charAt(i) - path.charAt(start + i);
+
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+
+            return segment.length() - (end - start);
+        }
+
+        private static <T> T[] insert(final T[] source, final int at, final T value, final T[] target) {
+            System.arraycopy(source, 0, target, 0, at);
+            target[at] = value;
+            System.arraycopy(source, at, target, at + 1, source.length - at);
+            return target;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newNodes(final int length) {
+            return (Node<V>[]) new Node[length];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Route<V>[] newRoutes(final int length) {
+            return (Route<V>[]) new Route[length];
+        }
+    }
+}
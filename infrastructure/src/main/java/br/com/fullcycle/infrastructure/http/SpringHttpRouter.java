@@ -39,17 +39,19 @@ public class SpringHttpRouter implements HttpRouter {
     }
 
     private static <T> HandlerFunction<ServerResponse> wrapHandler(String pattern, HttpHandler<T> handler) {
-        return req -> {
-            try {
-                var res = handler.handle(new SpringHttpRequest(req));
-                return ServerResponse.status(res.statusCode())
-                        .headers(headers -> res.headers().forEach(headers::add))
-                        .body(res.body());
-            } catch (Throwable error) {
-                LOGGER.error("Unexpected error at %s".formatted(pattern), error);
-                return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Unexpected error");
-            }
-        };
+        return req -> respond(pattern, handler, new SpringHttpRequest(req));
+    }
+
+    static ServerResponse respond(String pattern, HttpHandler<?> handler, HttpRequest request) {
+        try {
+            var res = handler.handle(request);
+            return ServerResponse.status(res.statusCode())
+                    .headers(headers -> res.headers().forEach(headers::add))
+                    .body(res.body());
+        } catch (Throwable error) {
+            LOGGER.error("Unexpected error at %s".formatted(pattern), error);
+            return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Unexpected error");
+        }
     }
 
     public record SpringHttpRequest(ServerRequest request) implements HttpRequest {
@@ -0,0 +1,73 @@
+package br.com.fullcycle.infrastructure.http;
+
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+// HttpRouter for Spring MVC functional endpoints backed by a RouteTrie: every pattern goes into one trie at startup
+// and a request is routed with a single walk of its path, instead of trying each registered pattern in turn and
+// collecting its variables into a map. Requests no route matches fall through to the rest of the dispatcher.
+// Every lookup still allocates its own Match, two int arrays sized to the most parameters of any route, and a hit
+// the request wrapper handed to the handler: the match is read by the handler later on, possibly on another thread,
+// so it cannot be shared.
+public class TrieHttpRouter implements HttpRouter {
+
+    private final RouteTrie<HttpHandler<?>> routes;
+
+    public TrieHttpRouter() {
+        this.routes = new RouteTrie<>();
+    }
+
+    @Override
+    public <T> HttpRouter POST(String pattern, HttpHandler<T> handler) {
+        this.routes.add("POST", pattern, handler);
+
+        return this;
+    }
+
+    @Override
+    public <T> HttpRouter GET(String pattern, HttpHandler<T> handler) {
+        this.routes.add("GET", pattern, handler);
+
+        return this;
+    }
+
+    public RouterFunction<ServerResponse> build() {
+        return req -> {
+            final var match = this.routes.newMatch();
+
+            if (!this.routes.match(req.method().name(), req.requestPath().pathWithinApplication().value(), match)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(it -> SpringHttpRouter.respond(match.pattern(), match.value(), new TrieHttpRequest(it, match)));
+        };
+    }
+
+    public record TrieHttpRequest(ServerRequest request, RouteTrie.Match<?> match) implements HttpRequest {
+
+        @Override
+        public <T> T body(final Class<T> tClass) {
+            try {
+                return request.body(tClass);
+            } catch (Throwable error) {
+                throw new RuntimeException(error);
+            }
+        }
+
+        @Override
+        public String pathParams(String name) {
+            final var value = match.param(name);
+            return value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : null;
+        }
+
+        @Override
+        public Optional<String> queryParams(String name) {
+            return request.param(name);
+        }
+    }
+}
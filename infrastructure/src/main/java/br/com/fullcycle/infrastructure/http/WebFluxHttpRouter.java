@@ -0,0 +1,97 @@
+package br.com.fullcycle.infrastructure.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+// Binds HttpRouter handlers onto WebFlux. The event loop only reads the body and writes the response: the handler,
+// which blocks on the use cases, runs on blockingScheduler, and when that scheduler is saturated the request is
+// answered with 503 instead of piling up.
+public class WebFluxHttpRouter implements HttpRouter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebFluxHttpRouter.class);
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final RouterFunctions.Builder router;
+    private final Scheduler blockingScheduler;
+    private final ObjectMapper mapper;
+
+    public WebFluxHttpRouter(final Scheduler blockingScheduler, final ObjectMapper mapper) {
+        this.router = RouterFunctions.route();
+        this.blockingScheduler = Objects.requireNonNull(blockingScheduler);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public RouterFunctions.Builder getRouter() {
+        return router;
+    }
+
+    @Override
+    public <T> HttpRouter POST(String pattern, HttpHandler<T> handler) {
+        this.router.POST(pattern, wrapHandler(pattern, handler));
+
+        return this;
+    }
+
+    @Override
+    public <T> HttpRouter GET(String pattern, HttpHandler<T> handler) {
+        this.router.GET(pattern, wrapHandler(pattern, handler));
+
+        return this;
+    }
+
+    private <T> HandlerFunction<ServerResponse> wrapHandler(String pattern, HttpHandler<T> handler) {
+        return req -> req.bodyToMono(byte[].class)
+                .defaultIfEmpty(EMPTY)
+                .publishOn(this.blockingScheduler)
+                .map(body -> handler.handle(new WebFluxHttpRequest(req, body, this.mapper)))
+                .flatMap(res -> {
+                    final var response = ServerResponse.status(res.statusCode())
+                            .headers(headers -> res.headers().forEach(headers::add));
+
+                    return res.body() != null ? response.bodyValue(res.body()) : response.build();
+                })
+                .onErrorResume(RejectedExecutionException.class, error ->
+                        ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).bodyValue("Server busy")
+                )
+                .onErrorResume(error -> {
+                    LOGGER.error("Unexpected error at %s".formatted(pattern), error);
+                    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).bodyValue("Unexpected error");
+                });
+    }
+
+    // The body is read without blocking before the handler runs, so body() only has to decode it
+    public record WebFluxHttpRequest(ServerRequest request, byte[] content, ObjectMapper mapper) implements HttpRequest {
+
+        @Override
+        public <T> T body(final Class<T> tClass) {
+            try {
+                return mapper.readValue(content, tClass);
+            } catch (Throwable error) {
+                throw new RuntimeException(error);
+            }
+        }
+
+        @Override
+        public String pathParams(String name) {
+            return request.pathVariable(name);
+        }
+
+        @Override
+        public Optional<String> queryParams(String name) {
+            return request.queryParam(name);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.fullcycle.infrastructure.job;
+
+import java.util.function.Consumer;
+
+// Hashed hierarchical timing wheel. Level 0 has one slot per tick, each level above covers a whole rotation of the
+// level below in each of its slots. Scheduling pushes onto the head of a slot's list and expiring pops a whole slot,
+// both O(1) per entry; an entry far in the future cascades down at most once per level.
+//
+// Entries are never cancelled here: whoever consumes an expired entry checks whether it still applies.
+// Not thread-safe, callers synchronize.
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Node<T>[][] levels;
+    private long currentTick;
+    private long size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(final long tickMillis, final int bits, final int levels, final long startMillis) {
+        if (tickMillis < 1 || bits < 1 || levels < 1 || (long) bits * levels > 62) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = new Node[levels][1 << bits];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public void schedule(final T item, final long deadlineMillis) {
+        // Rounded up, so an entry never fires before its deadline
+        final var deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        place(new Node<>(item, deadlineTick));
+        size++;
+    }
+
+    // Moves the wheel up to now, handing every entry whose deadline has passed to the consumer
+    public int advance(final long nowMillis, final Consumer<T> expired) {
+        final var targetTick = Math.floorDiv(nowMillis, tickMillis);
+        var count = 0;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Cascades top-down, so entries falling from a higher level can land in the slot expiring right now
+            var level = 0;
+            while (level + 1 < levels.length && (currentTick & ((1L << (bits * (level + 1))) - 1)) == 0) {
+                level++;
+            }
+
+            for (; level > 0; level--) {
+                var node = take(level, slotOf(currentTick, level));
+                while (node != null) {
+                    final var next = node.next;
+                    place(node);
+                    node = next;
+                }
+            }
+
+            var node = take(0, slotOf(currentTick, 0));
+            while (node != null) {
+                final var next = node.next;
+                if (node.deadlineTick <= currentTick) {
+                    expired.accept(node.item);
+                    size--;
+                    count++;
+                } else {
+                    place(node);
+                }
+                node = next;
+            }
+        }
+
+        return count;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    private void place(final Node<T> node) {
+        final var delta = node.deadlineTick - currentTick;
+        var level = 0;
+
+        while (level + 1 < levels.length && delta >= 1L << (bits * (level + 1))) {
+            level++;
+        }
+
+        final var slot = slotOf(node.deadlineTick, level);
+        node.next = levels[level][slot];
+        levels[level][slot] = node;
+    }
+
+    private Node<T> take(final int level, final int slot) {
+        final var head = levels[level][slot];
+        levels[level][slot] = null;
+        return head;
+    }
+
+    private int slotOf(final long tick, final int level) {
+        return (int) ((tick >>> (bits * level)) & mask);
+    }
+
+    private static final class Node<T> {
+
+        private final T item;
+        private final long deadlineTick;
+        private Node<T> next;
+
+        private Node(final T item, final long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxArchiveJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps the outbox table down to the pending rows, so the relay queries cost what the backlog costs and not what
+// the history does. Published rows are moved to outbox_archive, or just deleted when outbox.compactor.archive is
+// off, and archived rows older than outbox.archive.retention are purged. Everything goes in chunks of
+// outbox.compactor.chunk-size, one short transaction each, at most outbox.compactor.max-chunks per table and run.
+@Component
+public class OutboxCompactor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxCompactor.class);
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final OutboxArchiveJpaRepository outboxArchiveJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean archive;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final AtomicLong compacted;
+    private final AtomicLong purged;
+
+    public OutboxCompactor(
+            final OutboxJpaRepository outboxJpaRepository,
+            final OutboxArchiveJpaRepository outboxArchiveJpaRepository,
+            final TransactionTemplate transactionTemplate,
+            @Value("${outbox.compactor.archive:true}") final boolean archive,
+            @Value("${outbox.archive.retention:30d}") final Duration retention,
+            @Value("${outbox.compactor.chunk-size:1000}") final int chunkSize,
+            @Value("${outbox.compactor.max-chunks:100}") final int maxChunks
+    ) {
+        this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
+        this.outboxArchiveJpaRepository = Objects.requireNonNull(outboxArchiveJpaRepository);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.archive = archive;
+        this.retention = Objects.requireNonNull(retention);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunks = Math.max(1, maxChunks);
+        this.compacted = new AtomicLong();
+        this.purged = new AtomicLong();
+    }
+
+    public long getCompacted() {
+        return this.compacted.get();
+    }
+
+    public long getPurged() {
+        return this.purged.get();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.compactor.interval-ms:60000}")
+    public void compact() {
+        try {
+            compactPublished();
+
+            if (this.archive && !this.retention.isZero() && !this.retention.isNegative()) {
+                purgeArchive(Instant.now().minus(this.retention));
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to compact the outbox, retrying on the next run", ex);
+        }
+    }
+
+    private void compactPublished() {
+        for (int chunk = 0; chunk < this.maxChunks; chunk++) {
+            final Integer count = this.transactionTemplate.execute(status -> {
+                final var ids = this.outboxJpaRepository.findPublishedIds(PageRequest.of(0, this.chunkSize));
+
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                if (this.archive) {
+                    this.outboxArchiveJpaRepository.archive(ids);
+                }
+
+                return this.outboxJpaRepository.deletePublished(ids);
+            });
+
+            if (count == null || count == 0) {
+                return;
+            }
+
+            this.compacted.addAndGet(count);
+
+            if (count < this.chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private void purgeArchive(final Instant before) {
+        for (int chunk = 0; chunk < this.maxChunks; chunk++) {
+            final Integer count = this.transactionTemplate.execute(status -> {
+                final var ids = this.outboxArchiveJpaRepository.findIdsPublishedBefore(before, PageRequest.of(0, this.chunkSize));
+                return ids.isEmpty() ? 0 : this.outboxArchiveJpaRepository.deleteAllByIds(ids);
+            });
+
+            if (count == null || count == 0) {
+                return;
+            }
+
+            this.purged.addAndGet(count);
+
+            if (count < this.chunkSize) {
+                return;
+            }
+        }
+    }
+}
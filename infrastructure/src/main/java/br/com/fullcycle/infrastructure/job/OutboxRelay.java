@@ -1,29 +1,329 @@
 package br.com.fullcycle.infrastructure.job;
 
 import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.gateways.QueueMessage;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
-import jakarta.transaction.Transactional;
-import org.springframework.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Relays unpublished outbox rows, one worker thread per partition it owns. Workers are woken by OutboxSignal right
+// after a commit that appended rows; polling only remains as a fallback, backing off from outbox.relay.min-poll-ms
+// to outbox.relay.max-poll-ms while idle. A full batch means a backlog: the worker goes again at once with a batch
+// twice as big, up to outbox.relay.max-batch-size, and shrinks it back as the backlog drains.
+//
+// Rows are split into outbox.relay.partition-count partitions by the hash of their aggregate id, and this instance
+// works on outbox.relay.partitions, all of them when empty. With outbox.relay.skip-locked rows locked by another
+// relay are skipped rather than waited for, so several instances drain the same partitions in parallel; giving each
+// instance its own partitions instead also keeps the events of an aggregate in order. Skip-locked is off by default:
+// it needs MySQL 8, since H2 skips every unpublished row while any of them is locked.
+//
+// A row is marked published only once the queue confirmed it. Rows are claimed for outbox.relay.lease-ms by a short
+// transaction and published outside of it, so no lock is held while the consumers run. A row the consumer failed is
+// retried after outbox.relay.retry-ms, behind the rows of its aggregate that came after it, and given up with
+// failedAt set after outbox.relay.max-attempts failures, for someone to look at. A row the queue did not confirm
+// within the lease, e.g. on shutdown, is claimed again once the lease expires.
 @Component
 public class OutboxRelay {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
     private final OutboxJpaRepository outboxJpaRepository;
     private final QueueGateway queueGateway;
+    private final OutboxSignal outboxSignal;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean skipLocked;
+    private final int partitionCount;
+    private final List<Integer> partitions;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long minPollMillis;
+    private final long maxPollMillis;
+    private final long leaseMillis;
+    private final long retryMillis;
+    private final int maxAttempts;
+    private final AtomicLong relayed;
+    private final AtomicLong failed;
+    private final AtomicLong deadLettered;
+    private final List<Thread> workers;
+
+    private volatile double rowsPerSecond;
+    private volatile boolean running;
+
+    public OutboxRelay(
+            final OutboxJpaRepository outboxJpaRepository,
+            final QueueGateway queueGateway,
+            final OutboxSignal outboxSignal,
+            final TransactionTemplate transactionTemplate,
+            @Value("${outbox.relay.enabled:true}") final boolean enabled,
+            @Value("${outbox.relay.skip-locked:false}") final boolean skipLocked,
+            @Value("${outbox.relay.partition-count:1}") final int partitionCount,
+            @Value("${outbox.relay.partitions:}") final int[] partitions,
+            @Value("${outbox.relay.min-batch-size:20}") final int minBatchSize,
+            @Value("${outbox.relay.max-batch-size:500}") final int maxBatchSize,
+            @Value("${outbox.relay.min-poll-ms:20}") final long minPollMillis,
+            @Value("${outbox.relay.max-poll-ms:2000}") final long maxPollMillis,
+            @Value("${outbox.relay.lease-ms:30000}") final long leaseMillis,
+            @Value("${outbox.relay.retry-ms:1000}") final long retryMillis,
+            @Value("${outbox.relay.max-attempts:5}") final int maxAttempts
+    ) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("partitionCount must be at least 1");
+        }
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
+        this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
+        this.queueGateway = Objects.requireNonNull(queueGateway);
+        this.outboxSignal = Objects.requireNonNull(outboxSignal);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.enabled = enabled;
+        this.skipLocked = skipLocked;
+        this.partitionCount = partitionCount;
+        this.partitions = new ArrayList<>();
+        this.minBatchSize = Math.max(1, minBatchSize);
+        this.maxBatchSize = Math.max(this.minBatchSize, maxBatchSize);
+        this.minPollMillis = Math.max(1, minPollMillis);
+        this.maxPollMillis = Math.max(this.minPollMillis, maxPollMillis);
+        this.leaseMillis = Math.max(1, leaseMillis);
+        this.retryMillis = Math.max(0, retryMillis);
+        this.maxAttempts = maxAttempts;
+        this.relayed = new AtomicLong();
+        this.failed = new AtomicLong();
+        this.deadLettered = new AtomicLong();
+        this.workers = new ArrayList<>();
+
+        if (partitions == null || partitions.length == 0) {
+            for (int partition = 0; partition < partitionCount; partition++) {
+                this.partitions.add(partition);
+            }
+        } else {
+            for (final var partition : partitions) {
+                if (partition < 0 || partition >= partitionCount) {
+                    throw new IllegalArgumentException("Partition %d out of [0, %d)".formatted(partition, partitionCount));
+                }
+                this.partitions.add(partition);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!this.enabled || this.running) {
+            return;
+        }
+
+        this.running = true;
+
+        for (final var partition : this.partitions) {
+            final var worker = new Thread(() -> run(partition), "outbox-relay-" + partition);
+            worker.setDaemon(true);
+            worker.start();
+            this.workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        this.running = false;
+
+        for (final var worker : this.workers) {
+            worker.interrupt();
+        }
+
+        for (final var worker : this.workers) {
+            worker.join(this.maxPollMillis);
+        }
+
+        this.workers.clear();
+    }
+
+    public long getRelayed() {
+        return this.relayed.get();
+    }
+
+    public long getFailed() {
+        return this.failed.get();
+    }
+
+    public long getDeadLettered() {
+        return this.deadLettered.get();
+    }
+
+    public double getRowsPerSecond() {
+        return this.rowsPerSecond;
+    }
+
+    private void run(final int partition) {
+        var batchSize = this.minBatchSize;
+        var pollMillis = this.minPollMillis;
+        var generation = this.outboxSignal.generation();
+
+        while (this.running) {
+            try {
+                final var count = relay(partition, batchSize);
+
+                if (count == batchSize) {
+                    batchSize = Math.min(this.maxBatchSize, batchSize * 2);
+                    pollMillis = this.minPollMillis;
+                    continue;
+                }
+
+                batchSize = Math.max(this.minBatchSize, Math.max(count, batchSize / 2));
+                pollMillis = count > 0 ? this.minPollMillis : Math.min(this.maxPollMillis, pollMillis * 2);
+            } catch (RuntimeException ex) {
+                if (!this.running) {
+                    return;
+                }
+
+                LOGGER.error("Failed to relay outbox partition {}, retrying in {}ms", partition, this.maxPollMillis, ex);
+                pollMillis = this.maxPollMillis;
+            }
+
+            try {
+                generation = this.outboxSignal.await(generation, pollMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // Returns how many rows were claimed, so the batch size follows the backlog even when some of them failed
+    private int relay(final int partition, final int batchSize) {
+        final var start = System.nanoTime();
+        final List<OutboxEntity> batch = this.transactionTemplate.execute(status -> {
+            final var claimed = claim(partition, batchSize);
+
+            if (!claimed.isEmpty()) {
+                this.outboxJpaRepository.claim(idsOf(claimed), Instant.now().plusMillis(this.leaseMillis));
+            }
+
+            return claimed;
+        });
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        final var sent = new ArrayList<CompletableFuture<Void>>(batch.size());
+        for (final var entry : batch) {
+            sent.add(publish(entry));
+        }
+
+        var interrupted = false;
+        try {
+            CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).get(this.leaseMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            interrupted = true;
+        } catch (ExecutionException | TimeoutException ex) {
+            // Sorted out row by row below
+        }
+
+        final var published = new ArrayList<UUID>(batch.size());
+        final var failedRows = new ArrayList<UUID>();
+        for (int i = 0; i < batch.size(); i++) {
+            final var future = sent.get(i);
+
+            if (!future.isDone()) {
+                continue;
+            }
+
+            (future.isCompletedExceptionally() ? failedRows : published).add(batch.get(i).getId());
+        }
+
+        try {
+            mark(published, failedRows);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        this.relayed.addAndGet(published.size());
+        this.rowsPerSecond = published.size() * 1_000_000_000d / Math.max(1, System.nanoTime() - start);
+
+        return batch.size();
+    }
+
+    private CompletableFuture<Void> publish(final OutboxEntity entry) {
+        try {
+            return this.queueGateway.publish(new QueueMessage(
+                    entry.getAggregateHash(),
+                    entry.getType(),
+                    entry.getSchemaVersion(),
+                    entry.getContent(),
+                    entry.getPayload()
+            ));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void mark(final List<UUID> published, final List<UUID> failedRows) {
+        if (published.isEmpty() && failedRows.isEmpty()) {
+            return;
+        }
+
+        final var now = Instant.now();
+        final Integer dead = this.transactionTemplate.execute(status -> {
+            if (!published.isEmpty()) {
+                this.outboxJpaRepository.markPublished(published, now);
+            }
+
+            if (failedRows.isEmpty()) {
+                return 0;
+            }
+
+            this.outboxJpaRepository.markFailed(failedRows, now.plusMillis(this.retryMillis));
+            return this.outboxJpaRepository.markDead(failedRows, this.maxAttempts, now);
+        });
+
+        if (!failedRows.isEmpty()) {
+            this.failed.addAndGet(failedRows.size());
+            LOGGER.warn("Consumers failed {} outbox rows, retrying them in {}ms", failedRows.size(), this.retryMillis);
+        }
+
+        if (dead != null && dead > 0) {
+            this.deadLettered.addAndGet(dead);
+            LOGGER.error("Gave up on {} outbox rows after {} failed attempts", dead, this.maxAttempts);
+        }
+    }
+
+    private List<OutboxEntity> claim(final int partition, final int batchSize) {
+        final var now = Instant.now();
+
+        if (this.skipLocked) {
+            return this.outboxJpaRepository.claimUnpublished(partition, this.partitionCount, now, batchSize);
+        }
 
-    public OutboxRelay(OutboxJpaRepository outboxJpaRepository,  QueueGateway queueGateway) {
-        this.outboxJpaRepository = outboxJpaRepository;
-        this.queueGateway = queueGateway;
+        return this.outboxJpaRepository.findUnpublished(partition, this.partitionCount, now, PageRequest.of(0, batchSize));
     }
 
-    @Scheduled(fixedRate = 2_000)
-    @Transactional
-    void execute() {
-        this.outboxJpaRepository.findTop100ByPublishedFalse()
-                .forEach(it -> {
-                    this.queueGateway.publish(it.getContent());
-                    this.outboxJpaRepository.save(it.notePublished());
-                });
+    private static List<UUID> idsOf(final List<OutboxEntity> entries) {
+        final var ids = new ArrayList<UUID>(entries.size());
+        entries.forEach(it -> ids.add(it.getId()));
+        return ids;
     }
 }
@@ -0,0 +1,84 @@
+package br.com.fullcycle.infrastructure.job;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Wakes the OutboxRelay workers once the transaction that appended outbox rows commits, so new rows are relayed
+// right away instead of on the next poll. A rolled back transaction never wakes them, and a transaction saving
+// several aggregates wakes them once.
+@Component
+public class OutboxSignal {
+
+    private final ReentrantLock lock;
+    private final Condition signalled;
+    private long generation;
+
+    public OutboxSignal() {
+        this.lock = new ReentrantLock();
+        this.signalled = this.lock.newCondition();
+    }
+
+    public void appended() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal();
+            return;
+        }
+
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                signal();
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxSignal.this);
+            }
+        });
+    }
+
+    public void signal() {
+        this.lock.lock();
+        try {
+            this.generation++;
+            this.signalled.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long generation() {
+        this.lock.lock();
+        try {
+            return this.generation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // Each worker waits on the generation it last saw, so one signal wakes all of them and a signal sent while a
+    // worker was busy is not lost. Returns the generation to wait on next time.
+    public long await(final long seen, final long timeoutMillis) throws InterruptedException {
+        this.lock.lock();
+        try {
+            var nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (this.generation == seen && nanos > 0) {
+                nanos = this.signalled.awaitNanos(nanos);
+            }
+            return this.generation;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.application.ticket.ExpireTicketHoldsUseCase;
+import br.com.fullcycle.domain.event.ticket.TicketId;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.infrastructure.jpa.repositories.TicketJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Expires unpaid reservation holds tickets.hold.ttl after the seat was reserved. Deadlines live in a timing wheel
+// in memory, fed as tickets are created and reloaded from the pending tickets once at startup, so nothing scans
+// the tickets table while running. Expired holds are released in batches of tickets.hold.batch-size.
+@Component
+public class TicketHoldExpiry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TicketHoldExpiry.class);
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final ExpireTicketHoldsUseCase expireTicketHoldsUseCase;
+    private final TicketJpaRepository ticketJpaRepository;
+    private final HierarchicalTimingWheel<TicketId> wheel;
+    private final long ttlMillis;
+    private final long tickMillis;
+    private final int batchSize;
+
+    public TicketHoldExpiry(
+            final ExpireTicketHoldsUseCase expireTicketHoldsUseCase,
+            final TicketJpaRepository ticketJpaRepository,
+            @Value("${tickets.hold.ttl:15m}") final Duration ttl,
+            @Value("${tickets.hold.tick-ms:1000}") final long tickMillis,
+            @Value("${tickets.hold.batch-size:500}") final int batchSize
+    ) {
+        this.expireTicketHoldsUseCase = Objects.requireNonNull(expireTicketHoldsUseCase);
+        this.ticketJpaRepository = Objects.requireNonNull(ticketJpaRepository);
+        this.ttlMillis = ttl.toMillis();
+        this.tickMillis = tickMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    public void hold(final TicketId ticketId, final Instant reservedAt) {
+        schedule(ticketId, reservedAt.toEpochMilli() + ttlMillis);
+    }
+
+    public long pending() {
+        synchronized (this.wheel) {
+            return this.wheel.size();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        this.ticketJpaRepository.findByStatus(TicketStatus.PENDING)
+                .forEach(it -> hold(TicketId.of(it.getId()), it.getReservedAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.hold.tick-ms:1000}")
+    public void expire() {
+        final var now = System.currentTimeMillis();
+        final var expired = new ArrayList<String>();
+
+        synchronized (this.wheel) {
+            this.wheel.advance(now, it -> expired.add(it.value()));
+        }
+
+        for (int from = 0; from < expired.size(); from += this.batchSize) {
+            final var batch = expired.subList(from, Math.min(from + this.batchSize, expired.size()));
+
+            try {
+                retry(this.expireTicketHoldsUseCase.execute(new ExpireTicketHoldsUseCase.Input(List.copyOf(batch))).retryTicketIds(), now);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to expire {} ticket holds, retrying on the next tick", batch.size(), ex);
+                retry(batch, now);
+            }
+        }
+    }
+
+    private void retry(final List<String> ticketIds, final long now) {
+        ticketIds.forEach(it -> schedule(TicketId.with(it), now + this.tickMillis));
+    }
+
+    private void schedule(final TicketId ticketId, final long deadlineMillis) {
+        synchronized (this.wheel) {
+            this.wheel.schedule(ticketId, deadlineMillis);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.application.event.PromoteWaitlistUseCase;
+import br.com.fullcycle.application.event.WaitlistPromotions;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Collects the events that got seats back, or a new waiter while seats were free, and promotes their waitlists on the
+// next tick, so a burst of releases for the same event turns into a few batched promotions instead of one per seat.
+//
+// The pending events only live in memory, so a sweep at startup and then every events.waitlist.sweep-interval-ms
+// schedules the events that have customers waiting and free seats: those whose promotion was lost with a restart or
+// given up, and those whose waiter joined right after a promotion found an empty waitlist.
+//
+// An event whose promotion fails is retried with an exponential backoff, from events.waitlist.backoff up to
+// events.waitlist.max-backoff, and given up after events.waitlist.max-failures failures in a row. Its free seats then
+// stay kept for the waitlist until seats are released again or the next sweep, so events.waitlist.abandoned should
+// stay at zero.
+@Component
+public class WaitlistPromoter implements WaitlistPromotions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+    private final PromoteWaitlistUseCase promoteWaitlistUseCase;
+    private final WaitlistRepository waitlistRepository;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final int maxFailures;
+    private final int sweepLimit;
+    private final Map<String, Retry> pending;
+    private final AtomicLong promoted;
+    private final AtomicLong failures;
+    private final AtomicLong abandoned;
+
+    public WaitlistPromoter(
+            final PromoteWaitlistUseCase promoteWaitlistUseCase,
+            final WaitlistRepository waitlistRepository,
+            @Value("${events.waitlist.backoff:1s}") final Duration backoff,
+            @Value("${events.waitlist.max-backoff:60s}") final Duration maxBackoff,
+            @Value("${events.waitlist.max-failures:10}") final int maxFailures,
+            @Value("${events.waitlist.sweep-limit:1000}") final int sweepLimit
+    ) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be at least 1");
+        }
+
+        if (sweepLimit < 1) {
+            throw new IllegalArgumentException("sweepLimit must be at least 1");
+        }
+
+        this.promoteWaitlistUseCase = Objects.requireNonNull(promoteWaitlistUseCase);
+        this.waitlistRepository = Objects.requireNonNull(waitlistRepository);
+        this.backoffMillis = Objects.requireNonNull(backoff).toMillis();
+        this.maxBackoffMillis = Math.max(this.backoffMillis, Objects.requireNonNull(maxBackoff).toMillis());
+        this.maxFailures = maxFailures;
+        this.sweepLimit = sweepLimit;
+        this.pending = new ConcurrentHashMap<>();
+        this.promoted = new AtomicLong();
+        this.failures = new AtomicLong();
+        this.abandoned = new AtomicLong();
+    }
+
+    // New releases make an event backing off due right away; its failures still count towards the limit
+    public void seatsReleased(final String eventId) {
+        this.pending.merge(eventId, Retry.NOW, (current, ignored) -> current.due());
+    }
+
+    @Override
+    public void schedule(final EventId anEventId) {
+        seatsReleased(anEventId.value());
+    }
+
+    public long getPromoted() {
+        return this.promoted.get();
+    }
+
+    public long getFailures() {
+        return this.failures.get();
+    }
+
+    public long getAbandoned() {
+        return this.abandoned.get();
+    }
+
+    @Scheduled(fixedDelayString = "${events.waitlist.promote-interval-ms:500}")
+    public void promote() {
+        final var now = System.currentTimeMillis();
+
+        for (final var entry : this.pending.entrySet()) {
+            final var eventId = entry.getKey();
+            final var retry = entry.getValue();
+
+            if (retry.notBefore() > now || !this.pending.remove(eventId, retry)) {
+                continue;
+            }
+
+            try {
+                PromoteWaitlistUseCase.Output output;
+                do {
+                    output = this.promoteWaitlistUseCase.execute(new PromoteWaitlistUseCase.Input(eventId));
+                    this.promoted.addAndGet(output.promoted().size());
+                } while (output.hasMore());
+            } catch (RuntimeException ex) {
+                failed(eventId, retry.failures() + 1, now, ex);
+            }
+        }
+    }
+
+    // Leaves the events already pending alone, so a sweep never cuts a backoff short
+    @Scheduled(fixedDelayString = "${events.waitlist.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            for (final var eventId : this.waitlistRepository.eventsWithFreeSeats(this.sweepLimit)) {
+                this.pending.putIfAbsent(eventId.value(), Retry.NOW);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to sweep the waitlists for free seats", ex);
+        }
+    }
+
+    private void failed(final String eventId, final int failures, final long now, final RuntimeException error) {
+        this.failures.incrementAndGet();
+
+        if (failures >= this.maxFailures) {
+            this.abandoned.incrementAndGet();
+            LOGGER.error("Gave up promoting the waitlist of event {} after {} failures", eventId, failures, error);
+            return;
+        }
+
+        final var delay = Math.min(this.maxBackoffMillis, this.backoffMillis << Math.min(failures - 1, 30));
+        LOGGER.warn("Failed to promote the waitlist of event {}, retrying in {} ms", eventId, delay, error);
+
+        // A release that came in meanwhile keeps its place, only the failure count carries over
+        this.pending.merge(eventId, new Retry(failures, now + delay), (current, next) -> new Retry(failures, current.notBefore()));
+    }
+
+    private record Retry(int failures, long notBefore) {
+
+        private static final Retry NOW = new Retry(0, 0);
+
+        private Retry due() {
+            return new Retry(failures, 0);
+        }
+    }
+}
@@ -34,7 +34,7 @@ public class CustomerEntity {
 
     public static CustomerEntity of(final Customer customer) {
         return new CustomerEntity(
-                UUID.fromString(customer.getCustomerId().value()),
+                customer.getCustomerId().toUuid(),
                 customer.getName().value(),
                 customer.getCpf().value(),
                 customer.getEmail().value()
@@ -42,7 +42,7 @@ public class CustomerEntity {
     }
 
     public Customer toCustomer() {
-        return new Customer(CustomerId.with(this.id.toString()), this.name, this.cpf, this.email);
+        return new Customer(CustomerId.of(this.id), this.name, this.cpf, this.email);
     }
 
     public UUID getId() {
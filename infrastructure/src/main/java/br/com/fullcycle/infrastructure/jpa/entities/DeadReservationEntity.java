@@ -0,0 +1,85 @@
+package br.com.fullcycle.infrastructure.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Reservations of a hot event that could not be written behind, kept as text for someone to repair: the tickets as
+// eventTicketId:customerId:ordering, the released event ticket ids and the domain events as JSON, one per line
+@Entity(name = "DeadReservation")
+@Table(name = "events_dead_reservations", indexes = @Index(columnList = "eventId, failedAt"))
+public class DeadReservationEntity {
+
+    @Id
+    private UUID id;
+
+    private UUID eventId;
+
+    @Column(length = 4_000)
+    private String tickets;
+
+    @Column(length = 4_000)
+    private String released;
+
+    @Column(length = 16_000)
+    private String domainEvents;
+
+    @Column(length = 1_000)
+    private String error;
+
+    private Instant failedAt;
+
+    public DeadReservationEntity() {
+    }
+
+    public DeadReservationEntity(
+            final UUID id,
+            final UUID eventId,
+            final String tickets,
+            final String released,
+            final String domainEvents,
+            final String error,
+            final Instant failedAt
+    ) {
+        this.id = id;
+        this.eventId = eventId;
+        this.tickets = tickets;
+        this.released = released;
+        this.domainEvents = domainEvents;
+        this.error = error;
+        this.failedAt = failedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public String getTickets() {
+        return tickets;
+    }
+
+    public String getReleased() {
+        return released;
+    }
+
+    public String getDomainEvents() {
+        return domainEvents;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+}
@@ -3,15 +3,20 @@ package br.com.fullcycle.infrastructure.jpa.entities;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventTicket;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+// Dynamic updates keep header writes from overwriting sold_count, which is only changed by the atomic increment
+@DynamicUpdate
 @Entity(name = "Event")
 @Table(name = "events")
 public class EventEntity {
@@ -25,31 +30,42 @@ public class EventEntity {
 
     private int totalSpots;
 
+    private int soldCount;
+
+    private int releasedCount;
+
+    private int stripes;
+
     private UUID partnerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "event")
+    @Version
+    private long version;
+
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "event")
     private Set<EventTicketEntity> tickets;
 
     public EventEntity() {
         this.tickets = new HashSet<>();
     }
 
-    public EventEntity(UUID id, String name, LocalDate date, int totalSpots, UUID partnerId) {
+    public EventEntity(UUID id, String name, LocalDate date, int totalSpots, int soldCount, UUID partnerId) {
         this();
         this.id = id;
         this.name = name;
         this.date = date;
         this.totalSpots = totalSpots;
+        this.soldCount = soldCount;
         this.partnerId = partnerId;
     }
 
     public static EventEntity of(final Event event) {
         final var entity = new EventEntity(
-                UUID.fromString(event.getEventId().value()),
+                event.getEventId().toUuid(),
                 event.getName().value(),
                 event.getDate(),
                 event.getTotalSpots(),
-                UUID.fromString(event.getPartnerId().value())
+                event.getSoldCount(),
+                event.getPartnerId().toUuid()
         );
 
         event.getAllTickets().forEach(ticket -> entity.addTicket(ticket));
@@ -66,10 +82,42 @@ public class EventEntity {
                 this.partnerId.toString(),
                 this.tickets.stream()
                         .map(EventTicketEntity::toEventTicket)
-                        .collect(Collectors.toSet())
+                        .collect(Collectors.toSet()),
+                this.version
+        );
+    }
+
+    public Event toEvent(final int soldCount, final Collection<EventTicketEntity> tickets) {
+        return Event.restore(
+                this.id.toString(),
+                this.name,
+                this.date.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                this.totalSpots,
+                this.partnerId.toString(),
+                soldCount,
+                tickets.stream()
+                        .map(EventTicketEntity::toEventTicket)
+                        .collect(Collectors.toSet()),
+                this.version
         );
     }
 
+    public EventEntity apply(final Event event) {
+        this.name = event.getName().value();
+        this.date = event.getDate();
+        this.totalSpots = event.getTotalSpots();
+        this.partnerId = event.getPartnerId().toUuid();
+        return this;
+    }
+
+    public EventTicketEntity attach(final EventTicketEntity ticket) {
+        // Never load the whole ticket set just to keep the inverse side in sync
+        if (Hibernate.isInitialized(this.tickets)) {
+            this.tickets.add(ticket);
+        }
+        return ticket;
+    }
+
     private void addTicket(final EventTicket ticket) {
         this.tickets.add(EventTicketEntity.of(this, ticket));
     }
@@ -106,6 +154,34 @@ public class EventEntity {
         this.totalSpots = totalSpots;
     }
 
+    public int getSoldCount() {
+        return soldCount;
+    }
+
+    public void setSoldCount(int soldCount) {
+        this.soldCount = soldCount;
+    }
+
+    public int getReleasedCount() {
+        return releasedCount;
+    }
+
+    public void setReleasedCount(int releasedCount) {
+        this.releasedCount = releasedCount;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public boolean isStriped() {
+        return stripes > 1;
+    }
+
     public UUID getPartnerId() {
         return partnerId;
     }
@@ -114,6 +190,14 @@ public class EventEntity {
         this.partnerId = partnerId;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<EventTicketEntity> getTickets() {
         return tickets;
     }
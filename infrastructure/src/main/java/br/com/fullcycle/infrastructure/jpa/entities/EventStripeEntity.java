@@ -0,0 +1,93 @@
+package br.com.fullcycle.infrastructure.jpa.entities;
+
+import br.com.fullcycle.domain.Ids;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity(name = "EventStripe")
+@Table(name = "events_stripes", uniqueConstraints = @UniqueConstraint(columnNames = {"eventId", "stripe"}))
+public class EventStripeEntity {
+
+    @Id
+    private UUID id;
+
+    private UUID eventId;
+
+    private int stripe;
+
+    private int totalSpots;
+
+    private int soldCount;
+
+    public EventStripeEntity() {
+    }
+
+    public EventStripeEntity(UUID id, UUID eventId, int stripe, int totalSpots, int soldCount) {
+        this.id = id;
+        this.eventId = eventId;
+        this.stripe = stripe;
+        this.totalSpots = totalSpots;
+        this.soldCount = soldCount;
+    }
+
+    public static EventStripeEntity of(final UUID eventId, final int stripe, final int totalSpots) {
+        return new EventStripeEntity(Ids.next(), eventId, stripe, totalSpots, 0);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getStripe() {
+        return stripe;
+    }
+
+    public void setStripe(int stripe) {
+        this.stripe = stripe;
+    }
+
+    public int getTotalSpots() {
+        return totalSpots;
+    }
+
+    public void setTotalSpots(int totalSpots) {
+        this.totalSpots = totalSpots;
+    }
+
+    public int getSoldCount() {
+        return soldCount;
+    }
+
+    public void setSoldCount(int soldCount) {
+        this.soldCount = soldCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        EventStripeEntity that = (EventStripeEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity(name = "EventTicket")
-@Table(name = "events_tickets")
+@Table(name = "events_tickets", uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "ordering"}))
 public class EventTicketEntity {
 
     @Id
@@ -44,21 +44,25 @@ public class EventTicketEntity {
     }
 
     public static EventTicketEntity of(final EventEntity event, final EventTicket eventTicket) {
+        return of(event, eventTicket, eventTicket.getOrdering());
+    }
+
+    public static EventTicketEntity of(final EventEntity event, final EventTicket eventTicket, final int ordering) {
         return new EventTicketEntity(
-                UUID.fromString(eventTicket.getEventTicketId().value()),
-                UUID.fromString(eventTicket.getCustomerId().value()),
-                eventTicket.getOrdering(),
-                eventTicket.getTicketId() != null ? UUID.fromString(eventTicket.getTicketId().value()): null,
+                eventTicket.getEventTicketId().toUuid(),
+                eventTicket.getCustomerId().toUuid(),
+                ordering,
+                eventTicket.getTicketId() != null ? eventTicket.getTicketId().toUuid(): null,
                 event
         );
     }
 
     public EventTicket toEventTicket() {
         return new EventTicket(
-                EventTicketId.with(this.eventTicketId.toString()),
-                EventId.with(this.event.getId().toString()),
-                CustomerId.with(this.customerId.toString()),
-                this.ticketId != null ? TicketId.with(this.ticketId.toString()) : null,
+                EventTicketId.of(this.eventTicketId),
+                EventId.of(this.event.getId()),
+                CustomerId.of(this.customerId),
+                this.ticketId != null ? TicketId.of(this.ticketId) : null,
                 this.ordering
         );
     }
@@ -0,0 +1,86 @@
+package br.com.fullcycle.infrastructure.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+// Published outbox rows moved out of the pending table by the OutboxCompactor, kept for outbox.archive.retention
+@Entity(name = "OutboxArchive")
+@Table(name = "outbox_archive", indexes = @Index(columnList = "publishedAt"))
+public class OutboxArchiveEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(columnDefinition = "JSON", length = 4_000)
+    private String content;
+
+    @Column(length = 1_024)
+    private byte[] payload;
+
+    private String type;
+
+    @Column(name = "aggregate_id")
+    private UUID aggregateId;
+
+    @Column(name = "schema_version")
+    private int schemaVersion;
+
+    @Column(name = "aggregate_hash")
+    private int aggregateHash;
+
+    private Instant publishedAt;
+
+    public OutboxArchiveEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public int getAggregateHash() {
+        return aggregateHash;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxArchiveEntity that = (OutboxArchiveEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -1,58 +1,151 @@
 package br.com.fullcycle.infrastructure.jpa.entities;
 
 import br.com.fullcycle.domain.DomainEvent;
-import br.com.fullcycle.domain.customer.Customer;
-import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.infrastructure.outbox.DomainEventCodec;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Function;
 
 @Entity(name = "Outbox")
-@Table(name = "outbox")
-public class OutboxEntity {
+@Table(name = "outbox", indexes = @Index(columnList = "published, id"))
+public class OutboxEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
 
+    // Null when the event was stored with the binary payload instead
     @Column(columnDefinition = "JSON", length = 4_000)
     private String content;
 
+    @Column(length = 1_024)
+    private byte[] payload;
+
+    // Domain event type the consumers dispatch on, so they decode only the messages they handle
+    private String type;
+
+    @Column(name = "aggregate_id")
+    private UUID aggregateId;
+
+    @Column(name = "schema_version")
+    private int schemaVersion;
+
     private boolean published;
 
+    private Instant publishedAt;
+
+    // The relay that claimed the row owns it until then; an expired claim is taken again by any relay
+    private Instant claimedUntil;
+
+    // Deliveries the consumer failed, and when the relay gave up on the row after too many of them
+    private int attempts;
+
+    private Instant failedAt;
+
+    // Non-negative hash of the aggregate id; the relay partitions rows by it modulo its partition count
+    @Column(name = "aggregate_hash")
+    private int aggregateHash;
+
+    // Ids are assigned by the domain, so without this save() would merge and SELECT every new row before
+    // inserting it instead of persisting the whole batch in one go
+    @Transient
+    private boolean newEntity = true;
+
     public OutboxEntity() {
     }
 
-    public OutboxEntity(UUID id, String content, boolean published) {
+    public OutboxEntity(UUID id, String content, boolean published, int aggregateHash) {
         this.id = id;
         this.content = content;
         this.published = published;
+        this.aggregateHash = aggregateHash;
+        this.schemaVersion = 1;
     }
 
-    public static OutboxEntity of(final DomainEvent domainEvent, final Function<DomainEvent, String> toJson) {
-        return new OutboxEntity(
+    public static OutboxEntity of(final DomainEvent domainEvent, final DomainEventCodec codec) {
+        final var binary = codec.isBinary();
+        final var entity = new OutboxEntity(
                 UUID.fromString(domainEvent.domainEventId()),
-                toJson.apply(domainEvent),
-                false
+                binary ? null : codec.toJson(domainEvent),
+                false,
+                hashOf(domainEvent.aggregateId())
         );
+
+        entity.payload = binary ? codec.toBinary(domainEvent) : null;
+        entity.type = domainEvent.type();
+        entity.aggregateId = domainEvent.aggregateId() != null ? UUID.fromString(domainEvent.aggregateId()) : null;
+        entity.schemaVersion = codec.schemaVersionOf(domainEvent.type());
+
+        return entity;
+    }
+
+    public static int hashOf(final String aggregateId) {
+        return aggregateId != null ? aggregateId.hashCode() & Integer.MAX_VALUE : 0;
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     public String getContent() {
         return content;
     }
 
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
     public boolean isPublished() {
         return published;
     }
 
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAggregateHash() {
+        return aggregateHash;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -61,10 +154,46 @@ public class OutboxEntity {
         this.content = content;
     }
 
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public void setSchemaVersion(int schemaVersion) {
+        this.schemaVersion = schemaVersion;
+    }
+
     public void setPublished(boolean published) {
         this.published = published;
     }
 
+    public void setPublishedAt(Instant publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public void setAggregateHash(int aggregateHash) {
+        this.aggregateHash = aggregateHash;
+    }
+
+    public void setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public void setFailedAt(Instant failedAt) {
+        this.failedAt = failedAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -77,8 +206,9 @@ public class OutboxEntity {
         return Objects.hashCode(id);
     }
 
-    public OutboxEntity notePublished() {
-        this.published = true;
-        return this;
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
     }
 }
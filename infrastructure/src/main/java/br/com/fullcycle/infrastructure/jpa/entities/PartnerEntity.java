@@ -33,7 +33,7 @@ public class PartnerEntity {
 
     public static PartnerEntity of(final Partner partner) {
         return new PartnerEntity(
-                UUID.fromString(partner.getPartnerId().value()),
+                partner.getPartnerId().toUuid(),
                 partner.getName().value(),
                 partner.getCnpj().value(),
                 partner.getEmail().value()
@@ -41,7 +41,7 @@ public class PartnerEntity {
     }
 
     public Partner toPartner() {
-        return new Partner(PartnerId.with(this.id.toString()), this.name, this.cnpj, this.email);
+        return new Partner(PartnerId.of(this.id), this.name, this.cnpj, this.email);
     }
 
     public UUID getId() {
@@ -50,9 +50,9 @@ public class TicketEntity {
 
     public static TicketEntity of(final Ticket ticket) {
         return new TicketEntity(
-                UUID.fromString(ticket.getTicketId().value()),
-                UUID.fromString(ticket.getCustomerId().value()),
-                UUID.fromString(ticket.getEventId().value()),
+                ticket.getTicketId().toUuid(),
+                ticket.getCustomerId().toUuid(),
+                ticket.getEventId().toUuid(),
                 ticket.getStatus(),
                 ticket.getPaidAt(),
                 ticket.getReservedAt()
@@ -62,9 +62,9 @@ public class TicketEntity {
 
     public Ticket toTicket() {
         return new Ticket(
-                TicketId.with(this.id.toString()),
-                CustomerId.with(this.customerId.toString()),
-                EventId.with(this.eventId.toString()),
+                TicketId.of(this.id),
+                CustomerId.of(this.customerId),
+                EventId.of(this.eventId),
                 this.status,
                 this.paidAt,
                 this.reservedAt
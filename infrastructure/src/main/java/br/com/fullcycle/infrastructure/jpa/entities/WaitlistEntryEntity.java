@@ -0,0 +1,101 @@
+package br.com.fullcycle.infrastructure.jpa.entities;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntryId;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity(name = "WaitlistEntry")
+@Table(
+        name = "waitlist_entries",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"eventId", "customerId"}),
+        indexes = @Index(columnList = "eventId, joinedAt")
+)
+public class WaitlistEntryEntity {
+
+    @Id
+    private UUID id;
+
+    private UUID eventId;
+
+    private UUID customerId;
+
+    private Instant joinedAt;
+
+    public WaitlistEntryEntity() {
+    }
+
+    public WaitlistEntryEntity(final UUID id, final UUID eventId, final UUID customerId, final Instant joinedAt) {
+        this.id = id;
+        this.eventId = eventId;
+        this.customerId = customerId;
+        this.joinedAt = joinedAt;
+    }
+
+    public static WaitlistEntryEntity of(final WaitlistEntry entry) {
+        return new WaitlistEntryEntity(
+                entry.getWaitlistEntryId().toUuid(),
+                entry.getEventId().toUuid(),
+                entry.getCustomerId().toUuid(),
+                entry.getJoinedAt()
+        );
+    }
+
+    public WaitlistEntry toEntry() {
+        return new WaitlistEntry(
+                WaitlistEntryId.of(this.id),
+                EventId.of(this.eventId),
+                CustomerId.of(this.customerId),
+                this.joinedAt
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+
+    public Instant getJoinedAt() {
+        return joinedAt;
+    }
+
+    public void setJoinedAt(Instant joinedAt) {
+        this.joinedAt = joinedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        WaitlistEntryEntity that = (WaitlistEntryEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.DeadReservationEntity;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DeadReservationJpaRepository extends CrudRepository<DeadReservationEntity, UUID> {
+
+    List<DeadReservationEntity> findByEventId(UUID eventId);
+}
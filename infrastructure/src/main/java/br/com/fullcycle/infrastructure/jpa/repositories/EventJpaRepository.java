@@ -1,10 +1,51 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
-public interface EventJpaRepository extends CrudRepository<EventEntity, UUID> {
+public interface EventJpaRepository extends JpaRepository<EventEntity, UUID> {
 
+    @Query("select e from Event e left join fetch e.tickets where e.id = :id")
+    Optional<EventEntity> findWithTicketsById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            update Event e set e.soldCount = e.soldCount + 1
+            where e.id = :id and e.soldCount - e.releasedCount < e.totalSpots
+            """)
+    int incrementSoldCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update Event e set e.soldCount = e.soldCount + :count where e.id = :id")
+    int addSoldCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying
+    @Query("update Event e set e.releasedCount = e.releasedCount + :count where e.id = :id")
+    int addReleasedCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Query("select e.soldCount from Event e where e.id = :id")
+    int soldCountOf(@Param("id") UUID id);
+
+    @Query("select e.soldCount - e.releasedCount from Event e where e.id = :id")
+    int netSoldCountOf(@Param("id") UUID id);
+
+    // Only unstriped events whose counters are behind their tickets: sold_count becomes the last ordering handed out
+    // and released_count the orderings no ticket holds anymore
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update events e
+            set sold_count = (select coalesce(max(t.ordering), 0) from events_tickets t where t.event_id = e.id),
+                released_count = (select coalesce(max(t.ordering), 0) - count(*) from events_tickets t where t.event_id = e.id)
+            where e.stripes <= 1
+              and e.sold_count - e.released_count < (select count(*) from events_tickets t where t.event_id = e.id)
+            """, nativeQuery = true)
+    int backfillCounters();
 }
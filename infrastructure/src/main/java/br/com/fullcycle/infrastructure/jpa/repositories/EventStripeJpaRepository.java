@@ -0,0 +1,29 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.EventStripeEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface EventStripeJpaRepository extends CrudRepository<EventStripeEntity, UUID> {
+
+    @Modifying
+    @Query("""
+            update EventStripe s set s.soldCount = s.soldCount + 1
+            where s.eventId = :eventId and s.stripe = :stripe and s.soldCount < s.totalSpots
+            """)
+    int incrementSoldCount(@Param("eventId") UUID eventId, @Param("stripe") int stripe);
+
+    @Modifying
+    @Query("update EventStripe s set s.totalSpots = s.totalSpots + :count where s.eventId = :eventId and s.stripe = :stripe")
+    int addTotalSpots(@Param("eventId") UUID eventId, @Param("stripe") int stripe, @Param("count") int count);
+
+    @Query("select s.soldCount from EventStripe s where s.eventId = :eventId and s.stripe = :stripe")
+    int soldCountOf(@Param("eventId") UUID eventId, @Param("stripe") int stripe);
+
+    @Query("select coalesce(sum(s.soldCount), 0) from EventStripe s where s.eventId = :eventId")
+    long sumSoldCountOf(@Param("eventId") UUID eventId);
+}
@@ -0,0 +1,24 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventTicketJpaRepository extends CrudRepository<EventTicketEntity, UUID> {
+
+    @Query("select t from EventTicket t where t.event.id = :eventId and t.customerId in :customerIds")
+    List<EventTicketEntity> findByEventIdAndCustomerIdIn(
+            @Param("eventId") UUID eventId,
+            @Param("customerIds") Collection<UUID> customerIds
+    );
+
+    @Modifying
+    @Query("delete from EventTicket t where t.eventTicketId in :ids")
+    int deleteAllByEventTicketIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxArchiveEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxArchiveJpaRepository extends CrudRepository<OutboxArchiveEntity, UUID> {
+
+    // Copies the given published rows from the pending table; rows published before publishedAt existed are
+    // stamped with the time they are archived, so retention still applies to them
+    @Modifying
+    @Query(value = """
+            insert into outbox_archive (id, content, payload, type, aggregate_id, schema_version, aggregate_hash, published_at)
+            select id, content, payload, type, aggregate_id, schema_version, aggregate_hash,
+                   coalesce(published_at, current_timestamp)
+            from outbox
+            where id in :ids and published = true
+            """, nativeQuery = true)
+    int archive(@Param("ids") Collection<UUID> ids);
+
+    @Query("select a.id from OutboxArchive a where a.publishedAt < :before order by a.publishedAt")
+    List<UUID> findIdsPublishedBefore(@Param("before") Instant before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OutboxArchive a where a.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<UUID> ids);
+}
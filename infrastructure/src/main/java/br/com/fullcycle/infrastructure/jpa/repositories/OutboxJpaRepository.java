@@ -1,23 +1,84 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
-import br.com.fullcycle.infrastructure.jpa.entities.CustomerEntity;
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
-import org.hibernate.LockOptions;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 public interface OutboxJpaRepository extends CrudRepository<OutboxEntity, UUID> {
 
+    // Read-only: the rows are claimed and marked by the updates below, so they need no dirty checking snapshot.
+    // Rows claimed by a relay until after now, or given up on, are left out
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({
-            @QueryHint(name = "jakarta.persistence.lock.timeout", value = "2")
+            @QueryHint(name = "jakarta.persistence.lock.timeout", value = "2"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
     })
-    List<OutboxEntity> findTop100ByPublishedFalse();
+    @Query("""
+            select o from Outbox o
+            where o.published = false and mod(o.aggregateHash, :partitions) = :partition
+              and o.failedAt is null and (o.claimedUntil is null or o.claimedUntil < :now)
+            order by o.id
+            """)
+    List<OutboxEntity> findUnpublished(
+            @Param("partition") int partition,
+            @Param("partitions") int partitions,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    // Same rows, but the ones locked by another relay are skipped instead of waited for, so relays on several
+    // instances claim disjoint batches in parallel
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query(value = """
+            select * from outbox
+            where published = false and mod(aggregate_hash, :partitions) = :partition
+              and failed_at is null and (claimed_until is null or claimed_until < :now)
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEntity> claimUnpublished(
+            @Param("partition") int partition,
+            @Param("partitions") int partitions,
+            @Param("now") Instant now,
+            @Param("limit") int limit
+    );
+
+    long countByPublishedFalse();
+
+    @Modifying
+    @Query("update Outbox o set o.claimedUntil = :claimedUntil where o.id in :ids")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    @Modifying
+    @Query("update Outbox o set o.published = true, o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") Instant publishedAt);
+
+    // Counts the failed delivery and keeps the row claimed until it may be retried
+    @Modifying
+    @Query("update Outbox o set o.attempts = o.attempts + 1, o.claimedUntil = :retryAt where o.id in :ids")
+    int markFailed(@Param("ids") Collection<UUID> ids, @Param("retryAt") Instant retryAt);
+
+    @Modifying
+    @Query("update Outbox o set o.failedAt = :failedAt where o.id in :ids and o.attempts >= :maxAttempts")
+    int markDead(@Param("ids") Collection<UUID> ids, @Param("maxAttempts") int maxAttempts, @Param("failedAt") Instant failedAt);
+
+    @Query("select o.id from Outbox o where o.published = true order by o.id")
+    List<UUID> findPublishedIds(Pageable pageable);
+
+    @Modifying
+    @Query("delete from Outbox o where o.id in :ids and o.published = true")
+    int deletePublished(@Param("ids") Collection<UUID> ids);
 }
@@ -1,8 +1,28 @@
 package br.com.fullcycle.infrastructure.jpa.repositories;
 
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
 import br.com.fullcycle.infrastructure.jpa.entities.TicketEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
-public interface TicketJpaRepository extends CrudRepository<TicketEntity, UUID> { }
+public interface TicketJpaRepository extends CrudRepository<TicketEntity, UUID> {
+
+    List<Hold> findByStatus(TicketStatus status);
+
+    @Modifying
+    @Query("update Ticketq t set t.status = :to where t.id = :id and t.status = :from")
+    int updateStatus(@Param("id") UUID id, @Param("from") TicketStatus from, @Param("to") TicketStatus to);
+
+    interface Hold {
+
+        UUID getId();
+
+        Instant getReservedAt();
+    }
+}
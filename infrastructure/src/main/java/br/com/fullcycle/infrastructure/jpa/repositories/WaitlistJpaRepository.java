@@ -0,0 +1,35 @@
+package br.com.fullcycle.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.infrastructure.jpa.entities.WaitlistEntryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WaitlistJpaRepository extends CrudRepository<WaitlistEntryEntity, UUID> {
+
+    Optional<WaitlistEntryEntity> findByEventIdAndCustomerId(UUID eventId, UUID customerId);
+
+    boolean existsByEventId(UUID eventId);
+
+    List<WaitlistEntryEntity> findByEventIdOrderByJoinedAtAscIdAsc(UUID eventId, Pageable page);
+
+    // Striped events keep their counters in events_stripes, so they are always taken
+    @Query("""
+            select distinct w.eventId from WaitlistEntry w, Event e
+            where e.id = w.eventId and (e.stripes > 1 or e.soldCount - e.releasedCount < e.totalSpots)
+            """)
+    List<UUID> findEventIdsWithFreeSeats(Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,195 @@
+package br.com.fullcycle.infrastructure.outbox;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+// Compact binary encoding for records made of String and Instant components, such as the domain events.
+//
+// Layout: the components in declaration order, each one a tag byte followed by its value:
+//   0 null | 1 canonical UUID string, 16 bytes | 2 other string, int length + UTF-8 | 3 Instant, long seconds + int nanos
+//
+// Schema evolution: components are only ever appended to a record, never removed, renamed, retyped or reordered, and
+// each append bumps the schema version of its type. A reader fills the components an older payload does not have
+// with null, and refuses a newer payload rather than drop the components it does not know. Any other change needs
+// a new type.
+public final class BinaryRecordCodec {
+
+    private static final byte NULL = 0;
+    private static final byte UUID_STRING = 1;
+    private static final byte STRING = 2;
+    private static final byte INSTANT = 3;
+
+    private final ClassValue<Layout> layouts = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(final Class<?> type) {
+            return new Layout(type);
+        }
+    };
+
+    public byte[] encode(final Record value) {
+        final var layout = this.layouts.get(value.getClass());
+        final var wire = new Object[layout.accessors.length];
+        var size = 0;
+
+        // Sized first, so the payload is written into an exact array
+        for (int i = 0; i < wire.length; i++) {
+            wire[i] = toWire(layout.get(i, value));
+            size += sizeOf(wire[i]);
+        }
+
+        final var buffer = ByteBuffer.allocate(size);
+        for (final var it : wire) {
+            write(buffer, it);
+        }
+
+        return buffer.array();
+    }
+
+    public <R extends Record> R decode(final Class<R> type, final byte[] payload) {
+        final var layout = this.layouts.get(type);
+        final var buffer = ByteBuffer.wrap(payload);
+        final var args = new Object[layout.accessors.length];
+
+        for (int i = 0; i < args.length && buffer.hasRemaining(); i++) {
+            args[i] = read(buffer);
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Payload has more components than " + type.getName());
+        }
+
+        return type.cast(layout.create(args));
+    }
+
+    private static Object toWire(final Object value) {
+        if (value instanceof String aString) {
+            return isCanonicalUuid(aString) ? UUID.fromString(aString) : aString.getBytes(StandardCharsets.UTF_8);
+        }
+
+        return value;
+    }
+
+    private static int sizeOf(final Object wire) {
+        if (wire == null) {
+            return 1;
+        }
+
+        if (wire instanceof UUID) {
+            return 1 + 16;
+        }
+
+        if (wire instanceof byte[] bytes) {
+            return 1 + 4 + bytes.length;
+        }
+
+        return 1 + 8 + 4;
+    }
+
+    private static void write(final ByteBuffer buffer, final Object wire) {
+        if (wire == null) {
+            buffer.put(NULL);
+        } else if (wire instanceof UUID anUuid) {
+            buffer.put(UUID_STRING).putLong(anUuid.getMostSignificantBits()).putLong(anUuid.getLeastSignificantBits());
+        } else if (wire instanceof byte[] bytes) {
+            buffer.put(STRING).putInt(bytes.length).put(bytes);
+        } else {
+            final var anInstant = (Instant) wire;
+            buffer.put(INSTANT).putLong(anInstant.getEpochSecond()).putInt(anInstant.getNano());
+        }
+    }
+
+    private static Object read(final ByteBuffer buffer) {
+        final var tag = buffer.get();
+
+        return switch (tag) {
+            case NULL -> null;
+            case UUID_STRING -> new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case STRING -> {
+                final var bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                yield new String(bytes, StandardCharsets.UTF_8);
+            }
+            case INSTANT -> Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            default -> throw new IllegalArgumentException("Unknown tag " + tag);
+        };
+    }
+
+    // Only lowercase canonical UUIDs, the form UUID.toString gives back, so decoding returns the very same string
+    private static boolean isCanonicalUuid(final String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+
+        for (int i = 0; i < 36; i++) {
+            final var c = value.charAt(i);
+            final var valid = switch (i) {
+                case 8, 13, 18, 23 -> c == '-';
+                default -> (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            };
+
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class Layout {
+
+        private final MethodHandle[] accessors;
+        private final MethodHandle constructor;
+
+        private Layout(final Class<?> type) {
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException(type.getName() + " is not a record");
+            }
+
+            final var components = type.getRecordComponents();
+            final var types = new Class<?>[components.length];
+            this.accessors = new MethodHandle[components.length];
+
+            try {
+                final var lookup = MethodHandles.lookup();
+
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+
+                    if (types[i] != String.class && types[i] != Instant.class) {
+                        throw new IllegalArgumentException("Unsupported component %s of %s".formatted(components[i].getName(), type.getName()));
+                    }
+
+                    final var accessor = components[i].getAccessor();
+                    accessor.setAccessible(true);
+                    this.accessors[i] = lookup.unreflect(accessor);
+                }
+
+                final var canonical = type.getDeclaredConstructor(types);
+                canonical.setAccessible(true);
+                this.constructor = lookup.unreflectConstructor(canonical);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalArgumentException("Cannot encode " + type.getName(), ex);
+            }
+        }
+
+        private Object get(final int component, final Record value) {
+            try {
+                return this.accessors[component].invoke(value);
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        private Object create(final Object[] args) {
+            try {
+                return this.constructor.invokeWithArguments(args);
+            } catch (Throwable ex) {
+                throw new IllegalArgumentException("Payload does not match the record", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.fullcycle.infrastructure.outbox;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.event.EventTicketReleased;
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import br.com.fullcycle.domain.event.TicketCreated;
+import br.com.fullcycle.domain.event.TicketExpired;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// Encodes domain events for the outbox, as JSON or, with outbox.payload.format=binary, with the BinaryRecordCodec,
+// and decodes them back from either. Every event type is registered here with its schema version, which is bumped
+// whenever components are appended to the record. The evolution rule is the one of BinaryRecordCodec, applied to
+// JSON rows too by their schema_version: a reader fills the components an older row does not have with null, and
+// refuses a newer row rather than drop the components it does not know.
+@Component
+public class DomainEventCodec {
+
+    private final ObjectMapper mapper;
+    private final BinaryRecordCodec binaryCodec;
+    private final boolean binary;
+    private final Map<String, Type> types;
+
+    public DomainEventCodec(final ObjectMapper mapper, @Value("${outbox.payload.format:json}") final String format) {
+        if (!"json".equals(format) && !"binary".equals(format)) {
+            throw new IllegalArgumentException("Unknown outbox payload format " + format);
+        }
+
+        this.mapper = Objects.requireNonNull(mapper);
+        this.binaryCodec = new BinaryRecordCodec();
+        this.binary = "binary".equals(format);
+        this.types = new HashMap<>();
+
+        register("event-ticket.reserved", EventTicketReserved.class, 1);
+        register("event-ticket.released", EventTicketReleased.class, 1);
+        register("ticket.created", TicketCreated.class, 1);
+        register("ticket.expired", TicketExpired.class, 1);
+    }
+
+    public boolean isBinary() {
+        return this.binary;
+    }
+
+    public int schemaVersionOf(final String type) {
+        final var aType = this.types.get(type);
+        return aType != null ? aType.schemaVersion() : 1;
+    }
+
+    public String toJson(final DomainEvent domainEvent) {
+        try {
+            return this.mapper.writeValueAsString(domainEvent);
+        } catch (JsonProcessingException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    public byte[] toBinary(final DomainEvent domainEvent) {
+        if (!(domainEvent instanceof Record aRecord) || !this.types.containsKey(domainEvent.type())) {
+            throw new IllegalArgumentException("Unregistered domain event " + domainEvent.type());
+        }
+
+        return this.binaryCodec.encode(aRecord);
+    }
+
+    // Rows written before the type column existed only have it inside the JSON
+    public String typeOf(final String json) {
+        try {
+            final var type = this.mapper.readTree(json).get("type");
+            return type != null ? type.asText() : null;
+        } catch (JsonProcessingException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    public DomainEvent decode(final String type, final int schemaVersion, final String json, final byte[] payload) {
+        final var aType = this.types.get(type);
+
+        if (aType == null) {
+            throw new IllegalArgumentException("Unregistered domain event " + type);
+        }
+
+        if (schemaVersion > aType.schemaVersion()) {
+            throw new IllegalArgumentException("Unsupported schema version %d of %s".formatted(schemaVersion, type));
+        }
+
+        if (payload != null) {
+            return (DomainEvent) this.binaryCodec.decode(aType.recordClass(), payload);
+        }
+
+        try {
+            return (DomainEvent) this.mapper.readValue(json, aType.recordClass());
+        } catch (JsonProcessingException error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    private <T extends Record & DomainEvent> void register(final String type, final Class<T> recordClass, final int schemaVersion) {
+        this.types.put(type, new Type(recordClass, schemaVersion));
+    }
+
+    private record Type(Class<? extends Record> recordClass, int schemaVersion) {}
+}
@@ -10,9 +10,11 @@ import br.com.fullcycle.infrastructure.jpa.repositories.CustomerJpaRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 // Interface Adapter
 @Component
@@ -28,10 +30,23 @@ public class CustomerDatabaseRepository implements CustomerRepository {
     public Optional<Customer> customerOfId(final CustomerId anId) {
         Objects.requireNonNull(anId, "ID cannot be null");
 
-        return this.customerJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.customerJpaRepository.findById(anId.toUuid())
                 .map(CustomerEntity::toCustomer);
     }
 
+    @Override
+    public List<Customer> customersOfIds(final Set<CustomerId> customerIds) {
+        Objects.requireNonNull(customerIds, "IDs cannot be null");
+
+        final var ids = customerIds.stream()
+                .map(CustomerId::toUuid)
+                .toList();
+
+        final var customers = new ArrayList<Customer>(ids.size());
+        this.customerJpaRepository.findAllById(ids).forEach(it -> customers.add(it.toCustomer()));
+        return customers;
+    }
+
     @Override
     public Optional<Customer> customerOfCPF(final Cpf cpf) {
         Objects.requireNonNull(cpf, "CPF cannot be null");
@@ -0,0 +1,25 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.application.UnitOfWork;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// One transaction per unit of work; the @Transactional repositories called inside join it, and any exception thrown
+// out of the work rolls all of it back
+@Component
+public class DatabaseUnitOfWork implements UnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public DatabaseUnitOfWork(final TransactionTemplate transactionTemplate) {
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> work) {
+        return this.transactionTemplate.execute(status -> work.get());
+    }
+}
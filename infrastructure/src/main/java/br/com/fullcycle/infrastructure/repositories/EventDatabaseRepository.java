@@ -1,48 +1,81 @@
 package br.com.fullcycle.infrastructure.repositories;
 
-import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.customer.CustomerId;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.infrastructure.job.OutboxSignal;
 import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventTicketJpaRepository;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fullcycle.infrastructure.outbox.DomainEventCodec;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 // Interface Adapter
 @Component
 public class EventDatabaseRepository implements EventRepository {
 
     private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+    private final EventInventory eventInventory;
     private final OutboxJpaRepository outboxJpaRepository;
-    private final ObjectMapper mapper;
+    private final OutboxSignal outboxSignal;
+    private final DomainEventCodec domainEventCodec;
 
     public EventDatabaseRepository(
             final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final EventInventory eventInventory,
             final OutboxJpaRepository outboxJpaRepository,
-            final ObjectMapper mapper
+            final OutboxSignal outboxSignal,
+            final DomainEventCodec domainEventCodec
     ) {
         this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.eventInventory = Objects.requireNonNull(eventInventory);
         this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.outboxSignal = Objects.requireNonNull(outboxSignal);
+        this.domainEventCodec = Objects.requireNonNull(domainEventCodec);
     }
 
     @Override
     public Optional<Event> eventOfId(final EventId anId) {
         Objects.requireNonNull(anId, "ID cannot be null");
 
-        return this.eventJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.eventJpaRepository.findWithTicketsById(anId.toUuid())
                 .map(EventEntity::toEvent);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Event> eventForReservation(final EventId anId, final Set<CustomerId> customerIds) {
+        Objects.requireNonNull(anId, "ID cannot be null");
+        Objects.requireNonNull(customerIds, "Customer IDs cannot be null");
+
+        final var eventId = anId.toUuid();
+        final var customers = customerIds.stream()
+                .map(CustomerId::toUuid)
+                .toList();
+
+        return this.eventJpaRepository.findById(eventId)
+                .map(it -> it.toEvent(
+                        this.eventInventory.soldCountOf(it),
+                        customers.isEmpty() ? List.of() : this.eventTicketJpaRepository.findByEventIdAndCustomerIdIn(eventId, customers)
+                ));
+    }
+
     @Override
     @Transactional
     public Event create(Event event) {
@@ -52,30 +85,94 @@ public class EventDatabaseRepository implements EventRepository {
     @Override
     @Transactional
     public Event update(Event event) {
-        return save(event);
+        return this.eventJpaRepository.findById(event.getEventId().toUuid())
+                .map(it -> update(it, event))
+                .orElseGet(() -> save(event));
     }
 
     @Override
     public void deleteAll() {
+        this.eventInventory.deleteAll();
         this.eventJpaRepository.deleteAll();
     }
 
     private Event save(Event event) {
-        this.outboxJpaRepository.saveAll(
-                event.getAllDomainEvents().stream()
-                        .map(it -> OutboxEntity.of(it, this::toJson))
-                        .toList()
-        );
+        saveDomainEvents(event);
 
-        return this.eventJpaRepository.save(EventEntity.of(event))
+        return this.eventJpaRepository.save(this.eventInventory.create(EventEntity.of(event)))
                 .toEvent();
     }
 
-    private String toJson(final DomainEvent domainEvent) {
+    // Writes the header and only the tickets held by the aggregate, so a partially loaded event never
+    // has to hydrate the full ticket set
+    private Event update(final EventEntity entity, final Event event) {
+        if (entity.getVersion() != event.getVersion()) {
+            throw new ConcurrencyException("Event %s was changed concurrently".formatted(event.getEventId().value()));
+        }
+
+        saveDomainEvents(event);
+
+        entity.apply(event);
+
+        final var newTickets = Set.copyOf(event.getNewTickets());
+        final var tickets = new ArrayList<EventTicketEntity>(event.getAllTickets().size());
+        var soldCount = this.eventInventory.soldCountOf(entity) - release(entity, event);
+
+        for (final var ticket : event.getAllTickets()) {
+            if (!newTickets.contains(ticket)) {
+                tickets.add(this.eventTicketJpaRepository.save(EventTicketEntity.of(entity, ticket)));
+            }
+        }
+
+        for (final var ticket : event.getNewTickets()) {
+            final var ordering = this.eventInventory.reserve(entity);
+            tickets.add(entity.attach(this.eventTicketJpaRepository.save(EventTicketEntity.of(entity, ticket, ordering))));
+            soldCount++;
+        }
+
+        flush(event);
+
+        return entity.toEvent(soldCount, tickets);
+    }
+
+    private int release(final EventEntity entity, final Event event) {
+        final var released = event.getReleasedTickets().stream()
+                .map(it -> it.getEventTicketId().toUuid())
+                .toList();
+
+        if (released.isEmpty()) {
+            return 0;
+        }
+
+        this.eventTicketJpaRepository.deleteAllByEventTicketIdIn(released);
+        this.eventInventory.release(entity, released.size());
+
+        return released.size();
+    }
+
+    // Header writes are version-checked; the ticket counters are not, so concurrent reservations never
+    // conflict with each other, only with a concurrent change of the event itself
+    private void flush(final Event event) {
         try {
-            return this.mapper.writeValueAsString(domainEvent);
-        } catch (JsonProcessingException error) {
-            throw new RuntimeException(error);
+            this.eventJpaRepository.flush();
+        } catch (OptimisticLockingFailureException ex) {
+            throw new ConcurrencyException("Event %s was changed concurrently".formatted(event.getEventId().value()), ex);
+        }
+    }
+
+    // Only the events raised since the last save, appended to the outbox in one batch
+    private void saveDomainEvents(final Event event) {
+        final var domainEvents = event.pullDomainEvents();
+
+        if (domainEvents.isEmpty()) {
+            return;
         }
+
+        this.outboxJpaRepository.saveAll(
+                domainEvents.stream()
+                        .map(it -> OutboxEntity.of(it, this.domainEventCodec))
+                        .toList()
+        );
+        this.outboxSignal.appended();
     }
 }
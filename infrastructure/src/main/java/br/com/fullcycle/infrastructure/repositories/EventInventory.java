@@ -0,0 +1,143 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.EventStripeEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventStripeJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Seat counters of an event. By default a single sold_count on the events row; with
+// events.inventory.stripes > 1 new events split their spots across that many rows of events_stripes,
+// so concurrent reservations for the same event lock different rows.
+//
+// Events stored before the counters existed got both columns as 0 from ddl-auto, which would let the conditional
+// increment sell their seats again. They are rebuilt from their tickets once the beans are ready, before the web
+// server takes requests.
+@Component
+public class EventInventory implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventInventory.class);
+
+    private final EventJpaRepository eventJpaRepository;
+    private final EventStripeJpaRepository eventStripeJpaRepository;
+    private final int stripes;
+
+    public EventInventory(
+            final EventJpaRepository eventJpaRepository,
+            final EventStripeJpaRepository eventStripeJpaRepository,
+            @Value("${events.inventory.stripes:1}") final int stripes
+    ) {
+        this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventStripeJpaRepository = Objects.requireNonNull(eventStripeJpaRepository);
+        this.stripes = Math.max(1, stripes);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final var backfilled = this.eventJpaRepository.backfillCounters();
+
+        if (backfilled > 0) {
+            LOGGER.info("Rebuilt the seat counters of {} events from their tickets", backfilled);
+        }
+    }
+
+    public EventEntity create(final EventEntity event) {
+        final var stripes = Math.min(this.stripes, Math.max(1, event.getTotalSpots()));
+        event.setStripes(stripes);
+
+        if (event.isStriped()) {
+            final var spots = event.getTotalSpots() - event.getSoldCount();
+            final var rows = new ArrayList<EventStripeEntity>(stripes);
+
+            for (int i = 0; i < stripes; i++) {
+                rows.add(EventStripeEntity.of(event.getId(), i, spots / stripes + (i < spots % stripes ? 1 : 0)));
+            }
+
+            this.eventStripeJpaRepository.saveAll(rows);
+        }
+
+        return event;
+    }
+
+    // Seats taken right now. sold_count only ever grows, so it keeps handing out unique orderings, and the seats
+    // given back are counted apart in released_count. Both are read from the row: the bulk updates that move them
+    // bypass the entity, which is stale once the same transaction reserved or released a seat
+    public int soldCountOf(final EventEntity event) {
+        final var soldCount = this.eventJpaRepository.netSoldCountOf(event.getId());
+
+        if (event.isStriped()) {
+            return soldCount + (int) this.eventStripeJpaRepository.sumSoldCountOf(event.getId());
+        }
+
+        return soldCount;
+    }
+
+    // The conditional increment is the source of truth for capacity: the row lock it takes is held until commit,
+    // so reading the counter right after it hands out an ordering no other reservation gets. Orderings are unique
+    // per event, which the events_tickets constraint on (event_id, ordering) enforces, but not contiguous: a
+    // striped event leaves gaps wherever one stripe sells faster than another
+    public int reserve(final EventEntity event) {
+        if (event.isStriped()) {
+            return reserveOnStripe(event);
+        }
+
+        if (this.eventJpaRepository.incrementSoldCount(event.getId()) == 0) {
+            throw new ValidationException("Event sold out");
+        }
+
+        return this.eventJpaRepository.soldCountOf(event.getId());
+    }
+
+    // Starts on a random stripe and walks the others when it has run dry, so demand flows to the stripes that
+    // still have spots. Orderings interleave across stripes: stripe k hands out k + 1, k + 1 + n, k + 1 + 2n...
+    // on top of the spots sold before the event was striped.
+    private int reserveOnStripe(final EventEntity event) {
+        final var stripes = event.getStripes();
+        final var start = ThreadLocalRandom.current().nextInt(stripes);
+
+        for (int i = 0; i < stripes; i++) {
+            final var stripe = (start + i) % stripes;
+
+            if (this.eventStripeJpaRepository.incrementSoldCount(event.getId(), stripe) > 0) {
+                final var sold = this.eventStripeJpaRepository.soldCountOf(event.getId(), stripe);
+                return event.getSoldCount() + stripe + 1 + (sold - 1) * stripes;
+            }
+        }
+
+        throw new ValidationException("Event sold out");
+    }
+
+    // On a striped event the seats are spread over the stripes the way create() splits them, starting right after
+    // the stripes the earlier releases topped up, so every stripe gets its turn. A stripe can then sell past its initial
+    // share; its orderings still follow k + 1 + (sold - 1) * n, so they stay unique.
+    public void release(final EventEntity event, final int count) {
+        if (count < 1) {
+            return;
+        }
+
+        this.eventJpaRepository.addReleasedCount(event.getId(), count);
+
+        if (event.isStriped()) {
+            final var stripes = event.getStripes();
+            final var first = event.getReleasedCount() % stripes;
+
+            for (int i = 0; i < Math.min(count, stripes); i++) {
+                final var spots = count / stripes + (i < count % stripes ? 1 : 0);
+                this.eventStripeJpaRepository.addTotalSpots(event.getId(), (first + i) % stripes, spots);
+            }
+        }
+    }
+
+    public void deleteAll() {
+        this.eventStripeJpaRepository.deleteAll();
+    }
+}
@@ -0,0 +1,601 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.DomainEvent;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.event.EventTicketReleased;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.job.OutboxSignal;
+import br.com.fullcycle.infrastructure.jpa.entities.DeadReservationEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.DeadReservationJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.infrastructure.outbox.DomainEventCodec;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Reservation engine for events on a big on-sale. For the event ids promoted to hot (events.hot.ids or promote)
+// the seat counter and the customers already subscribed live in memory, guarded by one lock per event, and a
+// reservation is answered without touching the database. Tickets, domain events and the sold_count delta are
+// written behind in batches; the database stays the source of truth for everything else, and the state of an
+// event is rebuilt from it the first time it is used after a restart.
+//
+// The engine must be the only writer of a hot event: capacity is checked in memory only, so running more than
+// one instance with the same hot event, or reserving it through another path, may oversell. Striped events are
+// never made hot, their counters live in events_stripes and are only moved through the EventInventory.
+// Reservations still queued when the process dies are lost; stopping the application gracefully drains them.
+// Queued writes never join the caller's transaction, so a unit of work rolled back after updating a hot event still
+// has that update queued.
+//
+// A batch that fails to write is split and its reservations written one by one, so one bad reservation never holds
+// back the rest of the queue. One that keeps failing is retried on the next flushes, up to events.hot.max-attempts
+// times, and then moved to events_dead_reservations. Its callers were already told they had a seat, so in the same
+// transaction an EventTicketReleased is written to the outbox for every ticket it held, and the seats are given back
+// in memory. Releases of a dead reservation are not compensated: their tickets stay in the database, freed only in
+// memory until the state is rebuilt.
+//
+// The per-event lock only guards memory. Header updates and demotions flush outside it; while one runs, the event
+// refuses reservations with a ConcurrencyException instead of making them wait on the database.
+@Primary
+@Component
+public class HotEventRepository implements EventRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotEventRepository.class);
+
+    private final EventDatabaseRepository eventDatabaseRepository;
+    private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+    private final DeadReservationJpaRepository deadReservationJpaRepository;
+    private final EventInventory eventInventory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSignal outboxSignal;
+    private final DomainEventCodec domainEventCodec;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Set<EventId> hotEvents;
+    private final Map<EventId, HotEvent> states;
+    private final Map<EventId, Object> loadLocks;
+    private final LinkedBlockingDeque<Reservation> pending;
+    private final Object flushLock;
+    private final AtomicLong deadLettered;
+
+    public HotEventRepository(
+            final EventDatabaseRepository eventDatabaseRepository,
+            final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final DeadReservationJpaRepository deadReservationJpaRepository,
+            final EventInventory eventInventory,
+            final EntityManager entityManager,
+            final TransactionTemplate transactionTemplate,
+            final OutboxSignal outboxSignal,
+            final DomainEventCodec domainEventCodec,
+            @Value("${events.hot.ids:}") final String[] hotEvents,
+            @Value("${events.hot.batch-size:500}") final int batchSize,
+            @Value("${events.hot.max-attempts:3}") final int maxAttempts
+    ) {
+        this.eventDatabaseRepository = Objects.requireNonNull(eventDatabaseRepository);
+        this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.deadReservationJpaRepository = Objects.requireNonNull(deadReservationJpaRepository);
+        this.eventInventory = Objects.requireNonNull(eventInventory);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.outboxSignal = Objects.requireNonNull(outboxSignal);
+        this.domainEventCodec = Objects.requireNonNull(domainEventCodec);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.hotEvents = ConcurrentHashMap.newKeySet();
+        this.states = new ConcurrentHashMap<>();
+        this.loadLocks = new ConcurrentHashMap<>();
+        this.pending = new LinkedBlockingDeque<>();
+        this.flushLock = new Object();
+        this.deadLettered = new AtomicLong();
+
+        for (final var anId : hotEvents) {
+            this.hotEvents.add(EventId.with(anId.trim()));
+        }
+    }
+
+    public void promote(final EventId anId) {
+        Objects.requireNonNull(anId, "ID cannot be null");
+
+        if (this.eventJpaRepository.findById(anId.toUuid()).filter(EventEntity::isStriped).isPresent()) {
+            throw new ValidationException("Striped event %s cannot be hot".formatted(anId.value()));
+        }
+
+        this.hotEvents.add(anId);
+    }
+
+    // Takes the event out of memory only after its queued reservations reached the database, so the database
+    // path never sees a sold_count behind what was already handed out
+    public void demote(final EventId anId) {
+        synchronized (loadLockOf(anId)) {
+            final var state = this.states.get(anId);
+
+            if (state == null) {
+                this.hotEvents.remove(anId);
+                return;
+            }
+
+            synchronized (state) {
+                state.retired = true;
+            }
+
+            flush();
+            this.hotEvents.remove(anId);
+            this.states.remove(anId);
+        }
+    }
+
+    public boolean isHot(final EventId anId) {
+        return this.hotEvents.contains(anId);
+    }
+
+    public long getDeadLettered() {
+        return this.deadLettered.get();
+    }
+
+    @Override
+    public Optional<Event> eventOfId(final EventId anId) {
+        if (isHot(anId)) {
+            flush();
+        }
+
+        return this.eventDatabaseRepository.eventOfId(anId);
+    }
+
+    @Override
+    public Optional<Event> eventForReservation(final EventId anId, final Set<CustomerId> customerIds) {
+        Objects.requireNonNull(customerIds, "Customer IDs cannot be null");
+
+        if (!isHot(anId)) {
+            return this.eventDatabaseRepository.eventForReservation(anId, customerIds);
+        }
+
+        final var hotState = stateOf(anId);
+
+        // Loading it may have found the event cannot be hot
+        if (!isHot(anId)) {
+            return this.eventDatabaseRepository.eventForReservation(anId, customerIds);
+        }
+
+        return hotState.map(state -> {
+            synchronized (state) {
+                final var tickets = new HashSet<EventTicket>(customerIds.size());
+                for (final var customerId : customerIds) {
+                    final var ticket = state.tickets.get(customerId);
+                    if (ticket != null) {
+                        tickets.add(ticket);
+                    }
+                }
+                return state.toEvent(state.soldCount, tickets);
+            }
+        });
+    }
+
+    @Override
+    public Event create(final Event event) {
+        return this.eventDatabaseRepository.create(event);
+    }
+
+    @Override
+    public Event update(final Event event) {
+        if (!isHot(event.getEventId())) {
+            return this.eventDatabaseRepository.update(event);
+        }
+
+        final var hotState = stateOf(event.getEventId());
+
+        if (!isHot(event.getEventId())) {
+            return this.eventDatabaseRepository.update(event);
+        }
+
+        final var state = hotState.orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (event.getNewTickets().isEmpty() && event.getReleasedTickets().isEmpty()) {
+            return updateHeader(state, event);
+        }
+
+        synchronized (state) {
+            checkWritable(state, event);
+            return reserve(state, event);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        synchronized (this.flushLock) {
+            this.pending.clear();
+            this.states.clear();
+            this.deadReservationJpaRepository.deleteAll();
+            this.eventDatabaseRepository.deleteAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.hot.flush-interval-ms:50}")
+    public void flush() {
+        synchronized (this.flushLock) {
+            final var batch = new ArrayList<Reservation>(this.batchSize);
+
+            while (this.pending.drainTo(batch, this.batchSize) > 0) {
+                try {
+                    this.transactionTemplate.executeWithoutResult(status -> write(batch));
+                } catch (RuntimeException ex) {
+                    LOGGER.warn("Failed to write {} hot event reservations, writing them one by one", batch.size(), ex);
+                    writeOneByOne(batch);
+                    // The database may be down altogether; the next flush tries again instead of draining it all now
+                    return;
+                }
+
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        flush();
+    }
+
+    // The reservations still failing go back to the head of the queue, in order, until they run out of attempts
+    private void writeOneByOne(final List<Reservation> batch) {
+        final var retries = new ArrayList<Reservation>();
+
+        for (final var reservation : batch) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> write(List.of(reservation)));
+            } catch (RuntimeException ex) {
+                final var retried = reservation.retried();
+
+                if (retried.attempts() < this.maxAttempts || !deadLetter(retried, ex)) {
+                    retries.add(retried);
+                }
+            }
+        }
+
+        for (int i = retries.size() - 1; i >= 0; i--) {
+            this.pending.addFirst(retries.get(i));
+        }
+    }
+
+    // When not even the dead letter can be written the reservation stays queued, so an outage never discards it
+    private boolean deadLetter(final Reservation reservation, final RuntimeException error) {
+        final var compensations = reservation.tickets().stream()
+                .map(it -> new EventTicketReleased(it.getEventTicketId(), reservation.eventId(), it.getCustomerId()))
+                .toList();
+
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> writeDeadLetter(reservation, compensations, error));
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to dead-letter a reservation of event {}, keeping it queued", reservation.eventId().value(), ex);
+            return false;
+        }
+
+        if (!compensations.isEmpty()) {
+            this.outboxSignal.appended();
+        }
+
+        giveBack(reservation);
+        this.deadLettered.incrementAndGet();
+        LOGGER.error("Gave up writing a reservation of event {} after {} attempts, moved it to events_dead_reservations",
+                reservation.eventId().value(), reservation.attempts(), error);
+
+        return true;
+    }
+
+    private void writeDeadLetter(
+            final Reservation reservation,
+            final List<EventTicketReleased> compensations,
+            final RuntimeException error
+    ) {
+        this.deadReservationJpaRepository.save(new DeadReservationEntity(
+                Ids.next(),
+                reservation.eventId().toUuid(),
+                reservation.tickets().stream()
+                        .map(it -> "%s:%s:%d".formatted(it.getEventTicketId().value(), it.getCustomerId().value(), it.getOrdering()))
+                        .collect(Collectors.joining(",")),
+                reservation.released().stream()
+                        .map(it -> it.getEventTicketId().value())
+                        .collect(Collectors.joining(",")),
+                reservation.domainEvents().stream()
+                        .map(this.domainEventCodec::toJson)
+                        .collect(Collectors.joining("\n")),
+                String.valueOf(error.getMessage()),
+                Instant.now()
+        ));
+
+        for (final var compensation : compensations) {
+            this.entityManager.persist(OutboxEntity.of(compensation, this.domainEventCodec));
+        }
+    }
+
+    // The seats of a dead reservation were never written, so they are handed out again
+    private void giveBack(final Reservation reservation) {
+        final var state = this.states.get(reservation.eventId());
+
+        if (state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            for (final var ticket : reservation.tickets()) {
+                final var current = state.tickets.get(ticket.getCustomerId());
+
+                if (current != null && current.getEventTicketId().equals(ticket.getEventTicketId())) {
+                    state.tickets.remove(ticket.getCustomerId());
+                    state.soldCount--;
+                }
+            }
+        }
+    }
+
+    // Every check runs before the first seat is taken, so an aggregate holding several new tickets is reserved
+    // all or nothing. Orderings are assigned here, under the lock, like the database path does on increment.
+    private Event reserve(final HotEvent state, final Event event) {
+        final var newTickets = event.getNewTickets();
+        final var released = new ArrayList<EventTicket>(event.getReleasedTickets().size());
+
+        for (final var ticket : event.getReleasedTickets()) {
+            final var current = state.tickets.get(ticket.getCustomerId());
+            if (current != null && current.getEventTicketId().equals(ticket.getEventTicketId())) {
+                released.add(current);
+            }
+        }
+
+        for (final var ticket : newTickets) {
+            if (state.tickets.containsKey(ticket.getCustomerId()) && !released.contains(state.tickets.get(ticket.getCustomerId()))) {
+                throw new ValidationException("Email already registered");
+            }
+        }
+
+        if (state.soldCount - released.size() + newTickets.size() > state.totalSpots) {
+            throw new ValidationException("Event sold out");
+        }
+
+        for (final var ticket : released) {
+            state.tickets.remove(ticket.getCustomerId());
+            state.soldCount--;
+        }
+
+        final var reserved = new HashMap<CustomerId, EventTicket>(newTickets.size());
+
+        for (final var ticket : newTickets) {
+            final var aTicket = new EventTicket(
+                    ticket.getEventTicketId(),
+                    state.eventId,
+                    ticket.getCustomerId(),
+                    ticket.getTicketId(),
+                    ++state.issued
+            );
+
+            state.soldCount++;
+            state.tickets.put(aTicket.getCustomerId(), aTicket);
+            reserved.put(aTicket.getCustomerId(), aTicket);
+        }
+
+        this.pending.add(new Reservation(
+                state.eventId,
+                List.copyOf(reserved.values()),
+                List.copyOf(released),
+                event.pullDomainEvents(),
+                0
+        ));
+
+        final var tickets = new ArrayList<EventTicket>(event.getAllTickets().size());
+        for (final var ticket : event.getAllTickets()) {
+            tickets.add(reserved.getOrDefault(ticket.getCustomerId(), ticket));
+        }
+
+        return state.toEvent(state.soldCount, Set.copyOf(tickets));
+    }
+
+    // Only the check and the swap of the header take the lock; the flush and the write run outside it
+    private Event updateHeader(final HotEvent state, final Event event) {
+        synchronized (state) {
+            checkWritable(state, event);
+            state.updating = true;
+        }
+
+        try {
+            flush();
+
+            final var updated = this.eventDatabaseRepository.update(event);
+
+            synchronized (state) {
+                state.apply(updated);
+            }
+
+            return updated;
+        } finally {
+            synchronized (state) {
+                state.updating = false;
+            }
+        }
+    }
+
+    private static void checkWritable(final HotEvent state, final Event event) {
+        if (state.retired) {
+            throw new ConcurrencyException("Event %s is no longer hot".formatted(event.getEventId().value()));
+        }
+
+        if (state.updating || state.version != event.getVersion()) {
+            throw new ConcurrencyException("Event %s was changed concurrently".formatted(event.getEventId().value()));
+        }
+    }
+
+    // An event found striped when first loaded, e.g. listed in events.hot.ids, is taken off the hot set and left to
+    // the database path
+    private Optional<HotEvent> stateOf(final EventId anId) {
+        final var state = this.states.get(anId);
+
+        if (state != null) {
+            return Optional.of(state);
+        }
+
+        // Only loads of the same event wait for each other
+        synchronized (loadLockOf(anId)) {
+            final var loaded = this.states.get(anId);
+
+            if (loaded != null) {
+                return Optional.of(loaded);
+            }
+
+            final var entity = this.eventJpaRepository.findById(anId.toUuid());
+
+            if (entity.isEmpty()) {
+                return Optional.empty();
+            }
+
+            if (entity.get().isStriped()) {
+                LOGGER.warn("Event {} is striped and cannot be hot, reserving it through the database", anId.value());
+                this.hotEvents.remove(anId);
+                return Optional.empty();
+            }
+
+            // Rebuilt from the database; ticket rows and sold_count are written in the same transaction, so the
+            // tickets found there are exactly the seats taken, and sold_count the last ordering handed out
+            final var issued = entity.get().getSoldCount();
+
+            return this.eventDatabaseRepository.eventOfId(anId)
+                    .map(it -> new HotEvent(it, issued))
+                    .map(it -> {
+                        this.states.put(anId, it);
+                        return it;
+                    });
+        }
+    }
+
+    private Object loadLockOf(final EventId anId) {
+        return this.loadLocks.computeIfAbsent(anId, it -> new Object());
+    }
+
+    private void write(final List<Reservation> batch) {
+        final var soldCounts = new LinkedHashMap<EventId, Integer>();
+        final var releasedCounts = new LinkedHashMap<EventId, Integer>();
+        final var released = new ArrayList<UUID>();
+
+        for (final var reservation : batch) {
+            final var event = this.entityManager.getReference(EventEntity.class, reservation.eventId().toUuid());
+
+            for (final var ticket : reservation.tickets()) {
+                this.entityManager.persist(EventTicketEntity.of(event, ticket));
+            }
+
+            for (final var domainEvent : reservation.domainEvents()) {
+                this.entityManager.persist(OutboxEntity.of(domainEvent, this.domainEventCodec));
+                this.outboxSignal.appended();
+            }
+
+            for (final var ticket : reservation.released()) {
+                released.add(ticket.getEventTicketId().toUuid());
+            }
+
+            soldCounts.merge(reservation.eventId(), reservation.tickets().size(), Integer::sum);
+            releasedCounts.merge(reservation.eventId(), reservation.released().size(), Integer::sum);
+        }
+
+        this.entityManager.flush();
+
+        if (!released.isEmpty()) {
+            this.eventTicketJpaRepository.deleteAllByEventTicketIdIn(released);
+        }
+
+        soldCounts.forEach((anId, count) -> {
+            if (count > 0) {
+                this.eventJpaRepository.addSoldCount(anId.toUuid(), count);
+            }
+        });
+
+        releasedCounts.forEach((anId, count) -> {
+            if (count > 0) {
+                this.eventInventory.release(this.entityManager.find(EventEntity.class, anId.toUuid()), count);
+            }
+        });
+    }
+
+    private record Reservation(
+            EventId eventId,
+            List<EventTicket> tickets,
+            List<EventTicket> released,
+            List<DomainEvent> domainEvents,
+            int attempts
+    ) {
+
+        private Reservation retried() {
+            return new Reservation(eventId, tickets, released, domainEvents, attempts + 1);
+        }
+    }
+
+    private static final class HotEvent {
+
+        private final EventId eventId;
+        private final Map<CustomerId, EventTicket> tickets;
+        private String name;
+        private String date;
+        private int totalSpots;
+        private String partnerId;
+        private long version;
+        private int soldCount;
+        private int issued;
+        private boolean retired;
+        private boolean updating;
+
+        private HotEvent(final Event event, final int issued) {
+            this.eventId = event.getEventId();
+            this.tickets = new HashMap<>();
+            this.soldCount = event.getSoldCount();
+            this.issued = issued;
+            this.apply(event);
+
+            for (final var ticket : event.getAllTickets()) {
+                this.tickets.put(ticket.getCustomerId(), ticket);
+                this.issued = Math.max(this.issued, ticket.getOrdering());
+            }
+        }
+
+        private void apply(final Event event) {
+            this.name = event.getName().value();
+            this.date = event.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
+            this.totalSpots = event.getTotalSpots();
+            this.partnerId = event.getPartnerId().value();
+            this.version = event.getVersion();
+        }
+
+        private Event toEvent(final int soldCount, final Set<EventTicket> tickets) {
+            return Event.restore(eventId.value(), name, date, totalSpots, partnerId, soldCount, tickets, version);
+        }
+    }
+}
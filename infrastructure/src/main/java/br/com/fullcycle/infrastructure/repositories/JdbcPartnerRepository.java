@@ -0,0 +1,139 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerId;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.domain.person.Cnpj;
+import br.com.fullcycle.domain.person.Email;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+// Interface Adapter
+//
+// Plain JDBC over the partners table the JPA mapping owns, for the lean launch mode where there is no Spring
+// context and no Hibernate to start. Hibernate stores UUIDs natively on H2 and as binary(16) elsewhere, so ids are
+// bound the same way.
+public class JdbcPartnerRepository implements PartnerRepository {
+
+    private final DataSource dataSource;
+    private volatile Boolean nativeUuid;
+
+    public JdbcPartnerRepository(final DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        Objects.requireNonNull(anId, "ID cannot be null");
+
+        return findOne("select id, name, cnpj, email from partners where id = ?", anId.toUuid());
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCNPJ(final Cnpj cnpj) {
+        Objects.requireNonNull(cnpj, "CNPJ cannot be null");
+
+        return findOne("select id, name, cnpj, email from partners where cnpj = ?", cnpj.value());
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final Email email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+
+        return findOne("select id, name, cnpj, email from partners where email = ?", email.value());
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.prepareStatement("insert into partners (id, name, cnpj, email) values (?, ?, ?, ?)")) {
+            bind(connection, statement, 1, partner.getPartnerId().toUuid());
+            statement.setString(2, partner.getName().value());
+            statement.setString(3, partner.getCnpj().value());
+            statement.setString(4, partner.getEmail().value());
+            statement.executeUpdate();
+            return partner;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.prepareStatement("update partners set name = ?, cnpj = ?, email = ? where id = ?")) {
+            statement.setString(1, partner.getName().value());
+            statement.setString(2, partner.getCnpj().value());
+            statement.setString(3, partner.getEmail().value());
+            bind(connection, statement, 4, partner.getPartnerId().toUuid());
+            statement.executeUpdate();
+            return partner;
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.executeUpdate("delete from partners");
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Optional<Partner> findOne(final String sql, final Object param) {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.prepareStatement(sql)) {
+            bind(connection, statement, 1, param);
+
+            try (final var rs = statement.executeQuery()) {
+                return rs.next() ? Optional.of(toPartner(rs)) : Optional.empty();
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void bind(final Connection connection, final PreparedStatement statement, final int index, final Object value) throws SQLException {
+        if (!(value instanceof UUID anUuid)) {
+            statement.setObject(index, value);
+        } else if (nativeUuid(connection)) {
+            statement.setObject(index, anUuid);
+        } else {
+            statement.setBytes(index, ByteBuffer.allocate(16)
+                    .putLong(anUuid.getMostSignificantBits())
+                    .putLong(anUuid.getLeastSignificantBits())
+                    .array());
+        }
+    }
+
+    private boolean nativeUuid(final Connection connection) throws SQLException {
+        if (this.nativeUuid == null) {
+            this.nativeUuid = "H2".equals(connection.getMetaData().getDatabaseProductName());
+        }
+
+        return this.nativeUuid;
+    }
+
+    private static Partner toPartner(final ResultSet rs) throws SQLException {
+        final var id = rs.getObject("id");
+        final var uuid = id instanceof UUID anUuid ? anUuid : fromBytes(rs.getBytes("id"));
+
+        return new Partner(PartnerId.of(uuid), rs.getString("name"), rs.getString("cnpj"), rs.getString("email"));
+    }
+
+    private static UUID fromBytes(final byte[] bytes) {
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -12,7 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 // Interface Adapter
 @Component
@@ -28,7 +27,7 @@ public class PartnerDatabaseRepository implements PartnerRepository {
     public Optional<Partner> partnerOfId(final PartnerId anId) {
         Objects.requireNonNull(anId, "ID cannot be null");
 
-        return this.partnerJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.partnerJpaRepository.findById(anId.toUuid())
                 .map(PartnerEntity::toPartner);
     }
 
@@ -1,23 +1,25 @@
 package br.com.fullcycle.infrastructure.repositories;
 
-import br.com.fullcycle.domain.DomainEvent;
 import br.com.fullcycle.domain.event.Event;
 import br.com.fullcycle.domain.event.ticket.Ticket;
 import br.com.fullcycle.domain.event.ticket.TicketId;
 import br.com.fullcycle.domain.event.ticket.TicketRepository;
+import br.com.fullcycle.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.infrastructure.job.OutboxSignal;
 import br.com.fullcycle.infrastructure.jpa.entities.EventEntity;
 import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
 import br.com.fullcycle.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
 import br.com.fullcycle.infrastructure.jpa.repositories.TicketJpaRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.fullcycle.infrastructure.outbox.DomainEventCodec;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 // Interface Adapter
 @Component
@@ -25,26 +27,39 @@ public class TicketDatabaseRepository implements TicketRepository {
 
     private final TicketJpaRepository ticketJpaRepository;
     private final OutboxJpaRepository outboxJpaRepository;
-    private final ObjectMapper mapper;
+    private final OutboxSignal outboxSignal;
+    private final DomainEventCodec domainEventCodec;
 
     public TicketDatabaseRepository(
             final TicketJpaRepository ticketJpaRepository,
             final OutboxJpaRepository outboxJpaRepository,
-            final ObjectMapper mapper
+            final OutboxSignal outboxSignal,
+            final DomainEventCodec domainEventCodec
     ) {
         this.ticketJpaRepository = Objects.requireNonNull(ticketJpaRepository);
         this.outboxJpaRepository = Objects.requireNonNull(outboxJpaRepository);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.outboxSignal = Objects.requireNonNull(outboxSignal);
+        this.domainEventCodec = Objects.requireNonNull(domainEventCodec);
     }
 
     @Override
     public Optional<Ticket> ticketOfId(final TicketId anId) {
         Objects.requireNonNull(anId, "ID cannot be null");
 
-        return this.ticketJpaRepository.findById(UUID.fromString(anId.value()))
+        return this.ticketJpaRepository.findById(anId.toUuid())
                 .map(TicketEntity::toTicket);
     }
 
+    @Override
+    public List<Ticket> ticketsOfIds(final Set<TicketId> ticketIds) {
+        Objects.requireNonNull(ticketIds, "IDs cannot be null");
+
+        final var tickets = new ArrayList<Ticket>(ticketIds.size());
+        this.ticketJpaRepository.findAllById(ticketIds.stream().map(TicketId::toUuid).toList())
+                .forEach(it -> tickets.add(it.toTicket()));
+        return tickets;
+    }
+
     @Override
     @Transactional
     public Ticket create(Ticket ticket) {
@@ -57,27 +72,51 @@ public class TicketDatabaseRepository implements TicketRepository {
         return save(ticket);
     }
 
+    // The conditional update decides, not the status read before it: only the rows it changed are expired
+    @Override
+    @Transactional
+    public List<Ticket> expirePending(final Set<TicketId> ticketIds) {
+        Objects.requireNonNull(ticketIds, "IDs cannot be null");
+
+        final var expired = new ArrayList<Ticket>(ticketIds.size());
+
+        for (final var ticket : ticketsOfIds(ticketIds)) {
+            if (ticket.getStatus() == TicketStatus.PENDING
+                    && this.ticketJpaRepository.updateStatus(ticket.getTicketId().toUuid(), TicketStatus.PENDING, TicketStatus.EXPIRED) == 1) {
+                expired.add(ticket.expire());
+            }
+        }
+
+        saveDomainEvents(expired);
+
+        return expired;
+    }
+
     @Override
     public void deleteAll() {
         this.ticketJpaRepository.deleteAll();
     }
 
     private Ticket save(Ticket ticket) {
-        this.outboxJpaRepository.saveAll(
-                ticket.getAllDomainEvents().stream()
-                        .map(it -> OutboxEntity.of(it, this::toJson))
-                        .toList()
-        );
+        saveDomainEvents(List.of(ticket));
 
         return this.ticketJpaRepository.save(TicketEntity.of(ticket))
                 .toTicket();
     }
 
-    private String toJson(final DomainEvent domainEvent) {
-        try {
-            return this.mapper.writeValueAsString(domainEvent);
-        } catch (JsonProcessingException error) {
-            throw new RuntimeException(error);
+    // Only the events raised since the last save, appended to the outbox in one batch
+    private void saveDomainEvents(final List<Ticket> tickets) {
+        final var outbox = new ArrayList<OutboxEntity>();
+
+        for (final var ticket : tickets) {
+            for (final var domainEvent : ticket.pullDomainEvents()) {
+                outbox.add(OutboxEntity.of(domainEvent, this.domainEventCodec));
+            }
+        }
+
+        if (!outbox.isEmpty()) {
+            this.outboxJpaRepository.saveAll(outbox);
+            this.outboxSignal.appended();
         }
     }
 }
@@ -0,0 +1,83 @@
+package br.com.fullcycle.infrastructure.repositories;
+
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.infrastructure.jpa.entities.WaitlistEntryEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.WaitlistJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Interface Adapter
+// Every read goes to the table through its (eventId, joinedAt) and (eventId, customerId) indexes, so any instance
+// sees the waitlists the others wrote and nothing is held in memory per event.
+@Component
+public class WaitlistDatabaseRepository implements WaitlistRepository {
+
+    private final WaitlistJpaRepository waitlistJpaRepository;
+
+    public WaitlistDatabaseRepository(final WaitlistJpaRepository waitlistJpaRepository) {
+        this.waitlistJpaRepository = Objects.requireNonNull(waitlistJpaRepository);
+    }
+
+    @Override
+    public Optional<WaitlistEntry> entryOf(final EventId anEventId, final CustomerId aCustomerId) {
+        Objects.requireNonNull(anEventId, "Event ID cannot be null");
+        Objects.requireNonNull(aCustomerId, "Customer ID cannot be null");
+
+        return this.waitlistJpaRepository.findByEventIdAndCustomerId(anEventId.toUuid(), aCustomerId.toUuid())
+                .map(WaitlistEntryEntity::toEntry);
+    }
+
+    @Override
+    public boolean hasWaiting(final EventId anEventId) {
+        Objects.requireNonNull(anEventId, "Event ID cannot be null");
+
+        return this.waitlistJpaRepository.existsByEventId(anEventId.toUuid());
+    }
+
+    @Override
+    public List<WaitlistEntry> nextOf(final EventId anEventId, final int limit) {
+        Objects.requireNonNull(anEventId, "Event ID cannot be null");
+
+        return this.waitlistJpaRepository.findByEventIdOrderByJoinedAtAscIdAsc(anEventId.toUuid(), PageRequest.of(0, limit))
+                .stream()
+                .map(WaitlistEntryEntity::toEntry)
+                .toList();
+    }
+
+    @Override
+    public List<EventId> eventsWithFreeSeats(final int limit) {
+        return this.waitlistJpaRepository.findEventIdsWithFreeSeats(PageRequest.of(0, limit))
+                .stream()
+                .map(EventId::of)
+                .toList();
+    }
+
+    @Override
+    public WaitlistEntry create(final WaitlistEntry entry) {
+        return this.waitlistJpaRepository.save(WaitlistEntryEntity.of(entry))
+                .toEntry();
+    }
+
+    @Override
+    public void removeAll(final List<WaitlistEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        this.waitlistJpaRepository.deleteAllByIdIn(
+                entries.stream().map(it -> it.getWaitlistEntryId().toUuid()).toList()
+        );
+    }
+
+    @Override
+    public void deleteAll() {
+        this.waitlistJpaRepository.deleteAll();
+    }
+}
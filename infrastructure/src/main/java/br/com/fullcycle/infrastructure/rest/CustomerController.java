@@ -5,12 +5,15 @@ import br.com.fullcycle.domain.exceptions.ValidationException;
 import br.com.fullcycle.infrastructure.dtos.NewCustomerDTO;
 import br.com.fullcycle.application.customer.CreateCustomerUseCase;
 import br.com.fullcycle.application.customer.GetCustomerByIdUseCase;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 // Adapter
 @RestController
@@ -21,18 +24,20 @@ public class CustomerController {
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
     private final Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> publicGetCustomerPresenter;
     private final Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> privateGetCustomerPresenter;
-
+    private final Duration getTimeout;
 
     public CustomerController(
             final CreateCustomerUseCase createCustomerUseCase,
             final GetCustomerByIdUseCase getCustomerByIdUseCase,
             final Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> privateGetCustomer,
-            final Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> publicGetCustomer
+            final Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> publicGetCustomer,
+            @Value("${usecases.async.timeout-ms:5000}") final long getTimeoutMillis
     ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
         this.privateGetCustomerPresenter = privateGetCustomer;
         this.publicGetCustomerPresenter = publicGetCustomer;
+        this.getTimeout = Duration.ofMillis(getTimeoutMillis);
     }
 
     @PostMapping
@@ -46,14 +51,16 @@ public class CustomerController {
         }
     }
 
+    // The presented future is returned as is: Spring MVC frees the request thread and writes the response when the
+    // use case completes on the UseCaseExecutor, or when usecases.async.timeout-ms elapses
     @GetMapping("/{id}")
-    public Object get(@PathVariable String id, @RequestHeader(name = "X-Public", required = false) String xPublic) {
+    public CompletableFuture<Object> get(@PathVariable String id, @RequestHeader(name = "X-Public", required = false) String xPublic) {
         Presenter<Optional<GetCustomerByIdUseCase.Output>, Object> presenter = privateGetCustomerPresenter;
 
         if (xPublic != null) {
             presenter = publicGetCustomerPresenter;
         }
 
-        return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id), presenter);
+        return getCustomerByIdUseCase.executeAsync(new GetCustomerByIdUseCase.Input(id), getTimeout, presenter);
     }
 }
\ No newline at end of file
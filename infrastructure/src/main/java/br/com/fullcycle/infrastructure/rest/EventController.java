@@ -1,10 +1,15 @@
 package br.com.fullcycle.infrastructure.rest;
 
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
 import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.infrastructure.dtos.BulkSubscribeDTO;
 import br.com.fullcycle.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.infrastructure.dtos.SubscribeDTO;
 import br.com.fullcycle.application.event.CreateEventUseCase;
+import br.com.fullcycle.application.event.GroupCommitSubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.JoinWaitlistUseCase;
 import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.application.event.SubscribeCustomersToEventUseCase;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.Objects;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 
 // Adapter
@@ -20,14 +26,20 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class EventController {
 
     private final CreateEventUseCase createEventUseCase;
-    private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final GroupCommitSubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase;
+    private final JoinWaitlistUseCase joinWaitlistUseCase;
 
     public EventController(
             final CreateEventUseCase createEventUseCase,
-            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase
+            final GroupCommitSubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase,
+            final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase,
+            final JoinWaitlistUseCase joinWaitlistUseCase
     ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.subscribeCustomersToEventUseCase = Objects.requireNonNull(subscribeCustomersToEventUseCase);
+        this.joinWaitlistUseCase = Objects.requireNonNull(joinWaitlistUseCase);
     }
 
     @PostMapping
@@ -49,6 +61,34 @@ public class EventController {
             final var output = subscribeCustomerToEventUseCase
                     .execute(new SubscribeCustomerToEventUseCase.Input(id, dto.customerId()));
 
+            return ResponseEntity.ok(output);
+        } catch (ConcurrencyException ex) {
+            return ResponseEntity.status(CONFLICT).body(ex.getMessage());
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/{id}/subscribe/bulk")
+    public ResponseEntity<?> subscribeAll(@PathVariable String id, @RequestBody BulkSubscribeDTO dto) {
+        try {
+            final var output = subscribeCustomersToEventUseCase
+                    .execute(new SubscribeCustomersToEventUseCase.Input(id, dto.customerIds()));
+
+            return ResponseEntity.ok(output);
+        } catch (ConcurrencyException ex) {
+            return ResponseEntity.status(CONFLICT).body(ex.getMessage());
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/{id}/waitlist")
+    public ResponseEntity<?> joinWaitlist(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+        try {
+            final var output = joinWaitlistUseCase
+                    .execute(new JoinWaitlistUseCase.Input(id, dto.customerId()));
+
             return ResponseEntity.ok(output);
         } catch (ValidationException ex) {
             return ResponseEntity.unprocessableEntity().body(ex.getMessage());
@@ -28,7 +28,7 @@ public class CreateCustomerUseCaseIT extends IntegrationTest {
     @DisplayName("Deve criar um cliente")
     public void testCreateCustomer() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
 
@@ -48,7 +48,7 @@ public class CreateCustomerUseCaseIT extends IntegrationTest {
     @DisplayName("Não deve cadastrar um cliente com CPF duplicado")
     public void testCreateWithDuplicatedCPFShouldFail() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Customer already exists";
@@ -67,12 +67,12 @@ public class CreateCustomerUseCaseIT extends IntegrationTest {
     @DisplayName("Não deve cadastrar um cliente com e-mail duplicado")
     public void testCreateWithDuplicatedEmailShouldFail() {
         // given
-        final var expectedCPF = "123.456.789-01";
+        final var expectedCPF = "123.456.789-09";
         final var expectedEmail = "john.doe@mail.com";
         final var expectedName = "John Doe";
         final var expectedError = "Customer already exists";
 
-        createCustomer("111.456.789-02", expectedEmail, expectedName);
+        createCustomer("111.456.789-20", expectedEmail, expectedName);
         final var createInput = new CreateCustomerUseCase.Input(expectedCPF, expectedEmail, expectedName);
 
         // when
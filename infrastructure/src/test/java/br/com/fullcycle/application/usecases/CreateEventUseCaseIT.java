@@ -35,7 +35,7 @@ class CreateEventUseCaseIT extends IntegrationTest {
     @DisplayName("Deve criar um evento")
     public void testCreateEvent() throws Exception {
         // given
-        final var partner = createPartner("01.001.001/0001-01", "john.doe@mail.com", "John Doe");
+        final var partner = createPartner("01.001.003/0001-02", "john.doe@mail.com", "John Doe");
 
         final var expectedDate = "2021-01-01";
         final var expectedName = "Disney on Ice";
@@ -0,0 +1,211 @@
+package br.com.fullcycle.application.usecases;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.Fixtures;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.jpa.entities.EventTicketEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import br.com.fullcycle.infrastructure.repositories.HotEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+class HotSubscribeCustomerToEventUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private SubscribeCustomerToEventUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private HotEventRepository hotEventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventTicketJpaRepository eventTicketJpaRepository;
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Não deve vender mais tickets que o total de vagas de um evento em memória")
+    public void testConcurrentReservationsOnHotEventDoNotOversell() throws Exception {
+        // given
+        final var expectedTotalSpots = 10;
+        final var customers = 30;
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+        hotEventRepository.promote(anEvent.getEventId());
+
+        final var inputs = new ArrayList<SubscribeCustomerToEventUseCase.Input>(customers);
+        for (int i = 0; i < customers; i++) {
+            final var aCustomer = createCustomer("Customer " + i, Fixtures.cpf(i), "customer%d@gmail.com".formatted(i));
+            inputs.add(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        }
+
+        // when
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var results = inputs.stream()
+                    .map(it -> CompletableFuture.runAsync(() -> useCase.execute(it), executor))
+                    .toList();
+
+            results.forEach(it -> {
+                try {
+                    it.join();
+                } catch (CompletionException ex) {
+                    Assertions.assertInstanceOf(ValidationException.class, ex.getCause());
+                }
+            });
+        } finally {
+            executor.shutdown();
+            hotEventRepository.demote(anEvent.getEventId());
+        }
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        final var actualOrderings = actualEvent.getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(
+                IntStream.rangeClosed(1, expectedTotalSpots).boxed().collect(Collectors.toSet()),
+                actualOrderings
+        );
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o estado de um evento em memória a partir do banco de dados")
+    public void testRebuildHotEventFromDatabase() throws Exception {
+        // given
+        final var expectedTotalSpots = 2;
+        final var expectedDuplicatedError = "Email already registered";
+        final var expectedSoldOutError = "Event sold out";
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+        final var eventId = anEvent.getEventId().value();
+
+        final var john = createCustomer("John Doe", "123.456.789-09", "john@gmail.com");
+        final var jane = createCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com");
+        final var joe = createCustomer("Joe Doe", "123.456.787-39", "joe@gmail.com");
+
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, john.getCustomerId().value()));
+
+        // when
+        hotEventRepository.promote(anEvent.getEventId());
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, jane.getCustomerId().value()));
+        hotEventRepository.demote(anEvent.getEventId());
+        hotEventRepository.promote(anEvent.getEventId());
+
+        final var actualDuplicated = Assertions.assertThrows(
+                ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, jane.getCustomerId().value()))
+        );
+        final var actualSoldOut = Assertions.assertThrows(
+                ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, joe.getCustomerId().value()))
+        );
+
+        hotEventRepository.demote(anEvent.getEventId());
+
+        // then
+        Assertions.assertEquals(expectedDuplicatedError, actualDuplicated.getMessage());
+        Assertions.assertEquals(expectedSoldOutError, actualSoldOut.getMessage());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getSoldCount());
+    }
+
+    @Test
+    @DisplayName("Deve compensar e devolver a vaga de uma reserva em memória que não pôde ser gravada")
+    public void testDeadReservationIsCompensated() throws Exception {
+        // given
+        final var expectedTotalSpots = 2;
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+        final var eventId = anEvent.getEventId().value();
+
+        final var john = createCustomer("John Doe", "123.456.789-09", "john@gmail.com");
+        final var jane = createCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com");
+
+        hotEventRepository.promote(anEvent.getEventId());
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, john.getCustomerId().value()));
+        hotEventRepository.flush();
+
+        // A row written behind the engine's back takes the ordering the next reservation gets, so its write keeps failing
+        eventTicketJpaRepository.save(EventTicketEntity.of(
+                eventJpaRepository.findById(anEvent.getEventId().toUuid()).get(),
+                EventTicket.newTicket(anEvent.getEventId(), CustomerId.unique(), 2)
+        ));
+
+        // when
+        final var actualOutput = useCase.execute(new SubscribeCustomerToEventUseCase.Input(eventId, jane.getCustomerId().value()));
+
+        for (int i = 0; i < 20 && hotEventRepository.getDeadLettered() == 0; i++) {
+            hotEventRepository.flush();
+        }
+
+        // then
+        Assertions.assertEquals(1, hotEventRepository.getDeadLettered());
+
+        final var actualCompensations = StreamSupport.stream(outboxJpaRepository.findAll().spliterator(), false)
+                .filter(it -> "event-ticket.released".equals(it.getType()))
+                .filter(it -> anEvent.getEventId().toUuid().equals(it.getAggregateId()))
+                .toList();
+        Assertions.assertEquals(1, actualCompensations.size());
+        Assertions.assertTrue(actualCompensations.get(0).getContent().contains(actualOutput.eventTicketId()));
+
+        final var actualEvent = hotEventRepository.eventForReservation(anEvent.getEventId(), Set.of(jane.getCustomerId())).get();
+        Assertions.assertEquals(1, actualEvent.getSoldCount());
+        Assertions.assertTrue(actualEvent.getAllTickets().isEmpty());
+
+        hotEventRepository.demote(anEvent.getEventId());
+    }
+
+    private Customer createCustomer(final String name, final String cpf, final String email) {
+        return customerRepository.create(Customer.newCustomer(name, cpf, email));
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.fullcycle.application.usecases;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.Fixtures;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerId;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.repositories.HotEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@TestPropertySource(properties = "events.inventory.stripes=4")
+class StripedSubscribeCustomerToEventUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private SubscribeCustomerToEventUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private HotEventRepository hotEventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve vender todas as vagas de um evento distribuídas em faixas e depois recusar")
+    public void testReserveAllSpotsAcrossStripes() throws Exception {
+        // given
+        final var expectedTotalSpots = 10;
+        final var expectedError = "Event sold out";
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+
+        final var inputs = new ArrayList<SubscribeCustomerToEventUseCase.Input>();
+        for (int i = 0; i <= expectedTotalSpots; i++) {
+            final var aCustomer = customerRepository.create(
+                    Customer.newCustomer("Customer " + i, Fixtures.cpf(i), "customer%d@gmail.com".formatted(i))
+            );
+            inputs.add(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        }
+
+        // when
+        inputs.subList(0, expectedTotalSpots).forEach(useCase::execute);
+
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> useCase.execute(inputs.get(expectedTotalSpots))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        final var actualOrderings = actualEvent.getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(expectedTotalSpots, actualOrderings.size());
+    }
+
+    @Test
+    @DisplayName("Deve revender as vagas liberadas de um evento distribuído em faixas sem repetir a numeração")
+    public void testReleasedSpotsAcrossStripes() throws Exception {
+        // given
+        final var expectedTotalSpots = 4;
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+
+        final var inputs = new ArrayList<SubscribeCustomerToEventUseCase.Input>();
+        for (int i = 0; i < expectedTotalSpots + 2; i++) {
+            final var aCustomer = customerRepository.create(
+                    Customer.newCustomer("Customer " + i, Fixtures.cpf(i), "customer%d@gmail.com".formatted(i))
+            );
+            inputs.add(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        }
+
+        inputs.subList(0, expectedTotalSpots).forEach(useCase::execute);
+
+        final var soldOrderings = eventRepository.eventOfId(anEvent.getEventId()).get().getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+
+        final var released = Set.of(CustomerId.with(inputs.get(0).customerId()), CustomerId.with(inputs.get(1).customerId()));
+        final var anEventToRelease = eventRepository.eventForReservation(anEvent.getEventId(), released).get();
+        released.forEach(anEventToRelease::releaseTicket);
+        eventRepository.update(anEventToRelease);
+
+        // when
+        inputs.subList(expectedTotalSpots, expectedTotalSpots + 2).forEach(useCase::execute);
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        final var actualOrderings = actualEvent.getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+        final var resoldOrderings = new HashSet<>(actualOrderings);
+        resoldOrderings.removeAll(soldOrderings);
+
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(expectedTotalSpots, actualOrderings.size());
+        Assertions.assertEquals(2, resoldOrderings.size());
+    }
+
+    @Test
+    @DisplayName("Não deve colocar em memória um evento distribuído em faixas")
+    public void testStripedEventCannotBeHot() {
+        // given
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+
+        final var expectedError = "Striped event %s cannot be hot".formatted(anEvent.getEventId().value());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> hotEventRepository.promote(anEvent.getEventId())
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertFalse(hotEventRepository.isHot(anEvent.getEventId()));
+    }
+}
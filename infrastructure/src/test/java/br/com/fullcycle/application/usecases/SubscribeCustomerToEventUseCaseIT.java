@@ -0,0 +1,200 @@
+package br.com.fullcycle.application.usecases;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.application.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.domain.Fixtures;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.EventTicket;
+import br.com.fullcycle.domain.exceptions.ValidationException;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.infrastructure.repositories.EventInventory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class SubscribeCustomerToEventUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private SubscribeCustomerToEventUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventInventory eventInventory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento que já possui tickets vendidos")
+    public void testReserveTicket() throws Exception {
+        // given
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var aCustomer = createCustomer("John Doe", "123.456.789-09", "john@gmail.com");
+        final var anotherCustomer = createCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com");
+
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        anEvent.reserveTicket(anotherCustomer.getCustomerId());
+        eventRepository.create(anEvent);
+
+        final var expectedTickets = 2;
+        final var expectedOrdering = 2;
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        // when
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(anEvent.getEventId().value(), output.eventId());
+        Assertions.assertNotNull(output.eventTicketId());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTickets, actualEvent.getAllTickets().size());
+
+        final var actualTicket = actualEvent.getAllTickets().stream()
+                .filter(it -> it.getEventTicketId().value().equals(output.eventTicketId()))
+                .findFirst()
+                .get();
+        Assertions.assertEquals(expectedOrdering, actualTicket.getOrdering());
+    }
+
+    @Test
+    @DisplayName("Não deve comprar um ticket para um cliente já inscrito no evento")
+    public void testReserveTicketMoreThanOnce() throws Exception {
+        // given
+        final var expectedError = "Email already registered";
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var aCustomer = createCustomer("John Doe", "123.456.789-09", "john@gmail.com");
+
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        anEvent.reserveTicket(aCustomer.getCustomerId());
+        eventRepository.create(anEvent);
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value());
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve vender mais tickets que o total de vagas com inscrições concorrentes")
+    public void testConcurrentReservationsDoNotOversell() throws Exception {
+        // given
+        final var expectedTotalSpots = 10;
+        final var customers = 30;
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+
+        final var inputs = new ArrayList<SubscribeCustomerToEventUseCase.Input>(customers);
+        for (int i = 0; i < customers; i++) {
+            final var aCustomer = createCustomer("Customer " + i, Fixtures.cpf(i), "customer%d@gmail.com".formatted(i));
+            inputs.add(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), aCustomer.getCustomerId().value()));
+        }
+
+        // when
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var results = inputs.stream()
+                    .map(it -> CompletableFuture.runAsync(() -> useCase.execute(it), executor))
+                    .toList();
+
+            results.forEach(it -> {
+                try {
+                    it.join();
+                } catch (CompletionException ex) {
+                    Assertions.assertInstanceOf(ValidationException.class, ex.getCause());
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        final var actualOrderings = actualEvent.getAllTickets().stream()
+                .map(EventTicket::getOrdering)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(expectedTotalSpots, actualEvent.getAllTickets().size());
+        Assertions.assertEquals(
+                IntStream.rangeClosed(1, expectedTotalSpots).boxed().collect(Collectors.toSet()),
+                actualOrderings
+        );
+    }
+
+    @Test
+    @DisplayName("Não deve revender as vagas de um evento gravado antes dos contadores existirem")
+    public void testBackfillCountersOfLegacyEvent() throws Exception {
+        // given
+        final var expectedError = "Event sold out";
+
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var john = createCustomer("John Doe", "123.456.789-09", "john@gmail.com");
+        final var jane = createCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com");
+        final var joe = createCustomer("Joe Doe", "123.456.787-39", "joe@gmail.com");
+
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner);
+        anEvent.reserveTicket(john.getCustomerId());
+        anEvent.reserveTicket(jane.getCustomerId());
+        eventRepository.create(anEvent);
+
+        // The counters ddl-auto gives a row written before they existed
+        transactionTemplate.executeWithoutResult(status -> eventJpaRepository.addSoldCount(anEvent.getEventId().toUuid(), -2));
+
+        // when
+        eventInventory.afterSingletonsInstantiated();
+
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class,
+                () -> useCase.execute(new SubscribeCustomerToEventUseCase.Input(anEvent.getEventId().value(), joe.getCustomerId().value()))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertEquals(2, eventRepository.eventOfId(anEvent.getEventId()).get().getSoldCount());
+    }
+
+    private Customer createCustomer(final String name, final String cpf, final String email) {
+        return customerRepository.create(Customer.newCustomer(name, cpf, email));
+    }
+}
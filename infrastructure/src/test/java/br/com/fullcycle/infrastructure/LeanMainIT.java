@@ -0,0 +1,119 @@
+package br.com.fullcycle.infrastructure;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.DriverManager;
+import java.util.Properties;
+
+// The lean launch against an in-memory H2, with the partners table the JPA mapping would have created
+class LeanMainIT {
+
+    private static final String URL = "jdbc:h2:mem:lean;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private LeanMain lean;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (final var connection = DriverManager.getConnection(URL, "sa", "");
+             final var statement = connection.createStatement()) {
+            statement.execute("create table if not exists partners (id uuid primary key, name varchar(255), cnpj varchar(255), email varchar(255))");
+            statement.execute("delete from partners");
+        }
+
+        final var properties = new Properties();
+        properties.setProperty("spring.datasource.url", URL);
+        properties.setProperty("spring.datasource.username", "sa");
+        properties.setProperty("spring.datasource.password", "");
+        properties.setProperty("lean.http.port", "0");
+        properties.setProperty("lean.http.threads", "4");
+
+        lean = LeanMain.start(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lean.close();
+    }
+
+    @Test
+    @DisplayName("Deve criar e obter um parceiro pelo servidor HTTP do JDK")
+    public void testCreateAndGet() throws Exception {
+        // given
+        final var body = "{\"cnpj\":\"41.536.538/0001-00\",\"email\":\"john.doe@gmail.com\",\"name\":\"John Doe\"}";
+
+        // when
+        final var created = post(body);
+
+        final var location = created.headers().firstValue("Location").orElseThrow();
+        final var actual = client.send(HttpRequest.newBuilder(uri(location)).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        // then
+        Assertions.assertEquals(201, created.statusCode());
+        Assertions.assertEquals(200, actual.statusCode());
+        Assertions.assertTrue(actual.body().contains("\"cnpj\":\"41.536.538/0001-00\""));
+        Assertions.assertTrue(actual.body().contains("\"name\":\"John Doe\""));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 422 para um CNPJ duplicado e 404 para rotas e parceiros inexistentes")
+    public void testErrors() throws Exception {
+        // given
+        final var body = "{\"cnpj\":\"41.536.538/0001-00\",\"email\":\"john.doe@gmail.com\",\"name\":\"John Doe\"}";
+        final var duplicated = "{\"cnpj\":\"41.536.538/0001-00\",\"email\":\"john2@gmail.com\",\"name\":\"John Doe\"}";
+        post(body);
+
+        // when
+        final var actualDuplicated = post(duplicated);
+        final var actualMissingPartner = client.send(
+                HttpRequest.newBuilder(uri("/partners/0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        final var actualMissingRoute = client.send(
+                HttpRequest.newBuilder(uri("/customers")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        // then
+        Assertions.assertEquals(422, actualDuplicated.statusCode());
+        Assertions.assertEquals(404, actualMissingPartner.statusCode());
+        Assertions.assertEquals(404, actualMissingRoute.statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 405 com os métodos aceitos para uma rota existente com outro método")
+    public void testMethodNotAllowed() throws Exception {
+        // when
+        final var actual = client.send(
+                HttpRequest.newBuilder(uri("/partners")).DELETE().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        // then
+        Assertions.assertEquals(405, actual.statusCode());
+        Assertions.assertEquals("POST", actual.headers().firstValue("Allow").orElseThrow());
+    }
+
+    private HttpResponse<String> post(final String body) throws Exception {
+        return client.send(
+                HttpRequest.newBuilder(uri("/partners"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + lean.port() + path);
+    }
+}
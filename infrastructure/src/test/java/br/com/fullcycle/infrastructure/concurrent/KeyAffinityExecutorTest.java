@@ -0,0 +1,186 @@
+package br.com.fullcycle.infrastructure.concurrent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class KeyAffinityExecutorTest {
+
+    @Test
+    @DisplayName("Deve executar as tarefas de uma mesma chave na ordem em que foram enviadas")
+    public void testSameKeyRunsInOrder() throws Exception {
+        // given
+        final var keys = 16;
+        final var tasksPerKey = 500;
+        final var executor = new KeyAffinityExecutor("test", 4, 8, 1_000);
+
+        final var executed = new HashMap<Integer, List<Integer>>();
+        for (int key = 0; key < keys; key++) {
+            executed.put(key, Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        final var expected = IntStream.range(0, tasksPerKey).boxed().collect(Collectors.toList());
+
+        // when
+        for (int task = 0; task < tasksPerKey; task++) {
+            for (int key = 0; key < keys; key++) {
+                final var aKey = key;
+                final var aTask = task;
+                executor.execute(key, () -> executed.get(aKey).add(aTask));
+            }
+        }
+        executor.close();
+
+        // then
+        executed.values().forEach(it -> Assertions.assertEquals(expected, it));
+    }
+
+    @Test
+    @DisplayName("Deve executar em paralelo as tarefas de chaves em lanes diferentes")
+    public void testDifferentLanesRunInParallel() throws Exception {
+        // given
+        final var executor = new KeyAffinityExecutor("test", 2, 8, 1_000);
+        final var aKey = 0;
+        final var anotherKey = IntStream.range(1, 100)
+                .filter(it -> executor.laneOf(it) != executor.laneOf(aKey))
+                .findFirst()
+                .getAsInt();
+
+        final var released = new CountDownLatch(1);
+        final var done = new CountDownLatch(1);
+
+        // when
+        executor.execute(aKey, () -> {
+            try {
+                if (released.await(5, TimeUnit.SECONDS)) {
+                    done.countDown();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(anotherKey, released::countDown);
+
+        // then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve contar as tarefas que falharam e seguir executando as próximas")
+    public void testFailedTasksAreCounted() throws Exception {
+        // given
+        final var executor = new KeyAffinityExecutor("test", 1, 8, 1_000);
+        final var done = new CountDownLatch(1);
+
+        // when
+        executor.execute(0, () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute(0, done::countDown);
+
+        // then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, executor.getFailed());
+        Assertions.assertTrue(executor.close(5_000));
+    }
+
+    @Test
+    @DisplayName("Deve interromper as lanes ocupadas quando o fechamento passar do prazo")
+    public void testCloseInterruptsBusyLanes() throws Exception {
+        // given
+        final var executor = new KeyAffinityExecutor("test", 1, 1, 1_000);
+        final var started = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+
+        executor.execute(0, () -> {
+            started.countDown();
+
+            try {
+                TimeUnit.SECONDS.sleep(30);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(0, () -> {});
+
+        // when
+        final var actualFinished = executor.close(100);
+
+        // then
+        Assertions.assertFalse(actualFinished);
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma tarefa quando a lane continua cheia depois do prazo")
+    public void testRejectWhenLaneStaysFull() throws Exception {
+        // given
+        final var executor = new KeyAffinityExecutor("test", 1, 1, 50);
+        final var started = new CountDownLatch(1);
+        final var released = new CountDownLatch(1);
+
+        executor.execute(0, () -> {
+            started.countDown();
+
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(0, () -> {});
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                RejectedExecutionException.class,
+                () -> executor.execute(0, () -> {})
+        );
+
+        // then
+        Assertions.assertEquals("Lane 0 still full after 50 ms", actualException.getMessage());
+        released.countDown();
+        Assertions.assertTrue(executor.close(5_000));
+    }
+
+    @Test
+    @DisplayName("Deve executar as tarefas já enfileiradas antes de fechar")
+    public void testCloseDrainsQueuedTasks() throws Exception {
+        // given
+        final var tasks = 100;
+        final var executor = new KeyAffinityExecutor("test", 2, tasks, 1_000);
+        final var executed = new AtomicInteger();
+
+        for (int task = 0; task < tasks; task++) {
+            executor.execute(task, () -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(1);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                executed.incrementAndGet();
+            });
+        }
+
+        // when
+        final var actualFinished = executor.close(5_000);
+
+        // then
+        Assertions.assertTrue(actualFinished);
+        Assertions.assertEquals(tasks, executed.get());
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(0, () -> {}));
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fullcycle.infrastructure.concurrent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LimitedExecutorTest {
+
+    @Test
+    @DisplayName("Deve executar todas as tarefas sem passar do limite de concorrência")
+    public void testConcurrencyLimit() throws Exception {
+        // given
+        final var tasks = 40;
+        final var expectedMaxConcurrency = 4;
+        final var executor = new LimitedExecutor(Thread::new, expectedMaxConcurrency, tasks);
+
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var done = new CountDownLatch(tasks);
+
+        // when
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // then
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(expectedMaxConcurrency, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarefas quando a fila de espera estiver cheia")
+    public void testRejectWhenQueueIsFull() throws Exception {
+        // given
+        final var executor = new LimitedExecutor(Thread::new, 1, 1);
+
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        final Runnable task = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            done.countDown();
+        };
+
+        // when
+        executor.execute(task);
+        executor.execute(task);
+
+        final var actualException = Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+
+        // then
+        Assertions.assertNotNull(actualException);
+        Assertions.assertEquals(1, executor.active());
+        Assertions.assertEquals(1, executor.waiting());
+        Assertions.assertEquals(1, executor.rejected());
+
+        release.countDown();
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+}
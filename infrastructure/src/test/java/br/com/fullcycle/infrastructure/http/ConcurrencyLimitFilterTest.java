@@ -0,0 +1,59 @@
+package br.com.fullcycle.infrastructure.http;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    @DisplayName("Deve responder 503 quando o limite de requisições e a fila de espera estiverem cheios")
+    public void testRejectWhenFull() throws Exception {
+        // given
+        final var filter = new ConcurrencyLimitFilter(1, 0);
+
+        final var entered = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var running = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/events"), new MockHttpServletResponse(), (request, response) -> {
+                    entered.countDown();
+
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        running.start();
+        Assertions.assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        final var rejectedResponse = new MockHttpServletResponse();
+        final var acceptedResponse = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/events"), rejectedResponse, new MockFilterChain());
+
+        release.countDown();
+        running.join(TimeUnit.SECONDS.toMillis(10));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/events"), acceptedResponse, new MockFilterChain());
+
+        // then
+        Assertions.assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, rejectedResponse.getStatus());
+        Assertions.assertEquals(HttpServletResponse.SC_OK, acceptedResponse.getStatus());
+        Assertions.assertEquals(1, filter.rejected());
+        Assertions.assertEquals(0, filter.active());
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.fullcycle.infrastructure.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class RouteTrieTest {
+
+    @Test
+    @DisplayName("Deve encontrar a rota e extrair os parâmetros como posições no caminho")
+    public void testMatchWithParams() {
+        // given
+        final var trie = new RouteTrie<String>()
+                .add("GET", "/events/{id}", "get-event")
+                .add("POST", "/events/{id}/subscribe", "subscribe")
+                .add("POST", "/events/{eventId}/tickets/{ticketId}", "ticket");
+        final var path = "/events/42/tickets/abc";
+        final var match = trie.newMatch();
+
+        // when
+        final var actualMatched = trie.match("POST", path, match);
+
+        // then
+        Assertions.assertTrue(actualMatched);
+        Assertions.assertEquals("ticket", match.value());
+        Assertions.assertEquals("/events/{eventId}/tickets/{ticketId}", match.pattern());
+        Assertions.assertEquals(2, match.paramCount());
+        Assertions.assertEquals(8, match.paramStart(0));
+        Assertions.assertEquals(10, match.paramEnd(0));
+        Assertions.assertEquals("42", match.param("eventId"));
+        Assertions.assertEquals("abc", match.param("ticketId"));
+    }
+
+    @Test
+    @DisplayName("Deve preferir segmentos fixos e voltar ao parâmetro quando o caminho fixo não leva a uma rota")
+    public void testStaticBeforeParam() {
+        // given
+        final var trie = new RouteTrie<String>()
+                .add("GET", "/partners/{id}", "by-id")
+                .add("GET", "/partners/search", "search")
+                .add("GET", "/partners/search/recent", "recent")
+                .add("GET", "/", "root");
+        final var match = trie.newMatch();
+
+        // when
+        final var actualSearch = trie.match("GET", "/partners/search", match) ? match.value() : null;
+        final var actualRecent = trie.match("GET", "/partners/search/recent", match) ? match.value() : null;
+        final var actualById = trie.match("GET", "/partners/123", match) ? match.param("id") : null;
+        final var actualRoot = trie.match("GET", "/", match) ? match.value() : null;
+
+        // then
+        Assertions.assertEquals("search", actualSearch);
+        Assertions.assertEquals("recent", actualRecent);
+        Assertions.assertEquals("123", actualById);
+        Assertions.assertEquals("root", actualRoot);
+    }
+
+    @Test
+    @DisplayName("Não deve encontrar rotas com outro método, caminho incompleto, barra final ou parâmetro vazio")
+    public void testNoMatch() {
+        // given
+        final var trie = new RouteTrie<String>()
+                .add("GET", "/partners/{id}", "by-id")
+                .add("POST", "/partners", "create");
+        final var match = trie.newMatch();
+
+        // when
+        final var actualOtherMethod = trie.match("POST", "/partners/1", match);
+        final var actualIncomplete = trie.match("GET", "/partners", match);
+        final var actualTrailingSlash = trie.match("POST", "/partners/", match);
+        final var actualEmptyParam = trie.match("GET", "/partners//", match);
+        final var actualUnknown = trie.match("GET", "/customers/1", match);
+
+        // then
+        Assertions.assertFalse(actualOtherMethod);
+        Assertions.assertFalse(actualIncomplete);
+        Assertions.assertFalse(actualTrailingSlash);
+        Assertions.assertFalse(actualEmptyParam);
+        Assertions.assertFalse(actualUnknown);
+        Assertions.assertNull(match.value());
+    }
+
+    @Test
+    @DisplayName("Deve listar os métodos aceitos por um caminho, de rotas fixas e com parâmetros")
+    public void testMethodsFor() {
+        // given
+        final var trie = new RouteTrie<String>()
+                .add("GET", "/events/{id}", "get-event")
+                .add("DELETE", "/events/{id}", "delete-event")
+                .add("POST", "/events/search", "search");
+
+        // when
+        final var actualSearch = trie.methodsFor("/events/search");
+        final var actualEvent = trie.methodsFor("/events/42");
+        final var actualUnknown = trie.methodsFor("/customers");
+
+        // then
+        Assertions.assertEquals(List.of("POST", "GET", "DELETE"), List.copyOf(actualSearch));
+        Assertions.assertEquals(List.of("GET", "DELETE"), List.copyOf(actualEvent));
+        Assertions.assertTrue(actualUnknown.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar a mesma rota duas vezes")
+    public void testDuplicatedRoute() {
+        // given
+        final var trie = new RouteTrie<String>().add("GET", "/partners/{id}", "by-id");
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> trie.add("GET", "/partners/{partnerId}", "other")
+        );
+
+        // then
+        Assertions.assertEquals("Route GET /partners/{partnerId} conflicts with an existing one", actualError.getMessage());
+    }
+}
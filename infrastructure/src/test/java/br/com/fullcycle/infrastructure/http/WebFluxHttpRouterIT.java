@@ -0,0 +1,101 @@
+package br.com.fullcycle.infrastructure.http;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.dtos.NewPartnerDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.netty.DisposableServer;
+
+// The functional partner routes served by the Netty server, on a random port
+@TestPropertySource(properties = {"http.reactive.enabled=true", "http.reactive.port=0"})
+class WebFluxHttpRouterIT extends IntegrationTest {
+
+    @Autowired
+    private DisposableServer reactiveServer;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        partnerRepository.deleteAll();
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveServer.port())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve criar e obter um parceiro pelo roteador reativo")
+    public void testCreateAndGet() {
+        // given
+        final var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
+
+        // when
+        final var location = client.post().uri("/partners")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(partner)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class)
+                .getResponseHeaders()
+                .getLocation();
+
+        final var actualPartner = client.get().uri(location.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(NewPartnerDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        Assertions.assertNotNull(actualPartner);
+        Assertions.assertEquals(partner.cnpj(), actualPartner.cnpj());
+        Assertions.assertEquals(partner.email(), actualPartner.email());
+        Assertions.assertEquals(partner.name(), actualPartner.name());
+    }
+
+    @Test
+    @DisplayName("Não deve cadastrar um parceiro com CNPJ duplicado pelo roteador reativo")
+    public void testCreateWithDuplicatedCnpjShouldFail() {
+        // given
+        final var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
+        final var duplicated = new NewPartnerDTO("41.536.538/0001-00", "john2@gmail.com", "John Doe");
+
+        client.post().uri("/partners")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(partner)
+                .exchange()
+                .expectStatus().isCreated();
+
+        // when
+        final var response = client.post().uri("/partners")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(duplicated)
+                .exchange();
+
+        // then
+        response.expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para um parceiro inexistente")
+    public void testGetNotFound() {
+        // given
+        final var id = "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d";
+
+        // when
+        final var response = client.get().uri("/partners/{id}", id).exchange();
+
+        // then
+        response.expectStatus().isNotFound();
+    }
+}
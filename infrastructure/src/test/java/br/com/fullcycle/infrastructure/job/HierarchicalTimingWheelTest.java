@@ -0,0 +1,56 @@
+package br.com.fullcycle.infrastructure.job;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Deve expirar cada entrada uma única vez e nunca antes do prazo")
+    public void testAdvance() {
+        // given
+        final var wheel = new HierarchicalTimingWheel<Long>(10, 4, 3, 0);
+        final var deadlines = List.of(5L, 10L, 155L, 160L, 2_570L, 40_000L);
+        deadlines.forEach(it -> wheel.schedule(it, it));
+
+        final var expired = new ArrayList<Long>();
+
+        // when
+        for (long now = 0; now <= 41_000; now += 7) {
+            final var current = now;
+            wheel.advance(now, it -> {
+                Assertions.assertTrue(it <= current);
+                Assertions.assertTrue(current - it < 20);
+                expired.add(it);
+            });
+        }
+
+        // then
+        expired.sort(null);
+        Assertions.assertEquals(deadlines, expired);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Não deve expirar uma entrada cujo prazo já passou antes do próximo tick")
+    public void testScheduleInThePast() {
+        // given
+        final var wheel = new HierarchicalTimingWheel<String>(1_000, 8, 4, 10_000);
+        wheel.schedule("late", 0);
+
+        final var expired = new ArrayList<String>();
+
+        // when
+        wheel.advance(10_999, expired::add);
+        final var beforeTick = List.copyOf(expired);
+        wheel.advance(11_000, expired::add);
+
+        // then
+        Assertions.assertTrue(beforeTick.isEmpty());
+        Assertions.assertEquals(List.of("late"), expired);
+    }
+}
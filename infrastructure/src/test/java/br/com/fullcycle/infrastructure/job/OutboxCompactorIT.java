@@ -0,0 +1,111 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxArchiveJpaRepository;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// The application relay is disabled so only the rows marked here get published
+@TestPropertySource(properties = "outbox.relay.enabled=false")
+class OutboxCompactorIT extends IntegrationTest {
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private OutboxArchiveJpaRepository outboxArchiveJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxJpaRepository.deleteAll();
+        outboxArchiveJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve mover as linhas publicadas para o arquivo em lotes e manter apenas as pendentes")
+    public void testCompactPublishedRows() {
+        // given
+        final var pending = createRows(5);
+        final var published = createRows(20);
+        markPublished(published, Instant.now());
+
+        final var expectedCompacted = 20;
+
+        // when
+        final var compactor = newCompactor(Duration.ofDays(30));
+        compactor.compact();
+
+        // then
+        Assertions.assertEquals(expectedCompacted, compactor.getCompacted());
+        Assertions.assertEquals(pending.size(), outboxJpaRepository.countByPublishedFalse());
+        Assertions.assertEquals(pending.size(), outboxJpaRepository.count());
+        Assertions.assertEquals(published.size(), outboxArchiveJpaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve apagar do arquivo as linhas publicadas há mais tempo que a retenção")
+    public void testPurgeArchive() {
+        // given
+        final var old = createRows(10);
+        final var recent = createRows(5);
+        markPublished(old, Instant.now().minus(Duration.ofDays(40)));
+        markPublished(recent, Instant.now());
+
+        final var expectedPurged = 10;
+
+        // when
+        final var compactor = newCompactor(Duration.ofDays(30));
+        compactor.compact();
+
+        // then
+        Assertions.assertEquals(expectedPurged, compactor.getPurged());
+        Assertions.assertEquals(0, outboxJpaRepository.count());
+        Assertions.assertEquals(recent.size(), outboxArchiveJpaRepository.count());
+    }
+
+    private List<UUID> createRows(final int rows) {
+        final var entities = new ArrayList<OutboxEntity>(rows);
+        for (int i = 0; i < rows; i++) {
+            final var id = Ids.next();
+            entities.add(new OutboxEntity(id, "{\"type\":\"test\",\"id\":\"%s\"}".formatted(id), false, 0));
+        }
+
+        outboxJpaRepository.saveAll(entities);
+
+        return entities.stream().map(OutboxEntity::getId).toList();
+    }
+
+    private void markPublished(final List<UUID> ids, final Instant publishedAt) {
+        transactionTemplate.executeWithoutResult(status -> outboxJpaRepository.markPublished(ids, publishedAt));
+    }
+
+    // Small chunks, so every run goes through several of them
+    private OutboxCompactor newCompactor(final Duration retention) {
+        return new OutboxCompactor(
+                outboxJpaRepository,
+                outboxArchiveJpaRepository,
+                transactionTemplate,
+                true,
+                retention,
+                7,
+                100
+        );
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.Ids;
+import br.com.fullcycle.infrastructure.gateways.QueueGateway;
+import br.com.fullcycle.infrastructure.jpa.entities.OutboxEntity;
+import br.com.fullcycle.infrastructure.jpa.repositories.OutboxJpaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// The application relay is disabled so only the relays built here touch the outbox
+@TestPropertySource(properties = "outbox.relay.enabled=false")
+class OutboxRelayIT extends IntegrationTest {
+
+    // Stands in for the round trip to a broker, which is what a relay spends its time on
+    private static final long PUBLISH_MILLIS = 2;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private OutboxJpaRepository outboxJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve drenar o outbox com vários relays em paralelo sem publicar uma linha duas vezes")
+    public void testSkipLockedRelaysDrainInParallel() throws Exception {
+        // given
+        final var rows = 400;
+        final var relays = 4;
+
+        createRows(rows);
+        final var published = new ConcurrentHashMap<String, Integer>();
+        final var many = new ArrayList<OutboxRelay>(relays);
+        for (int i = 0; i < relays; i++) {
+            many.add(newRelay(published, true, 1, new int[0]));
+        }
+
+        // when
+        drain(many, published, rows);
+
+        // then
+        Assertions.assertEquals(rows, published.size());
+        Assertions.assertTrue(published.values().stream().allMatch(it -> it == 1));
+        Assertions.assertTrue(many.stream().allMatch(it -> it.getRelayed() > 0));
+    }
+
+    @Test
+    @DisplayName("Deve dividir o outbox entre relays por partição do agregado")
+    public void testPartitionedRelays() throws Exception {
+        // given
+        final var rows = 200;
+        final var partitions = 4;
+
+        final var created = createRows(rows);
+        final var published = new ConcurrentHashMap<String, Integer>();
+        final var relays = new ArrayList<OutboxRelay>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            relays.add(newRelay(published, false, partitions, new int[]{partition}));
+        }
+
+        // when
+        drain(relays, published, rows);
+
+        // then
+        Assertions.assertEquals(rows, published.size());
+        Assertions.assertTrue(published.values().stream().allMatch(it -> it == 1));
+
+        for (int partition = 0; partition < partitions; partition++) {
+            final var expected = partition;
+            final var expectedRows = created.stream()
+                    .filter(it -> it.getAggregateHash() % partitions == expected)
+                    .count();
+
+            Assertions.assertEquals(expectedRows, relays.get(partition).getRelayed());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve publicar só as linhas confirmadas e desistir de uma linha depois de falhas demais")
+    public void testFailedRowsAreRetriedThenGivenUp() throws Exception {
+        // given
+        final var rows = 20;
+        final var created = createRows(rows);
+        final var poison = created.get(rows / 2);
+        final var deliveries = new ConcurrentHashMap<Integer, Integer>();
+
+        final QueueGateway queueGateway = message -> {
+            deliveries.merge(message.key(), 1, Integer::sum);
+
+            return message.key() == poison.getAggregateHash()
+                    ? CompletableFuture.failedFuture(new IllegalStateException("Consumer failed"))
+                    : CompletableFuture.completedFuture(null);
+        };
+
+        final var relay = newRelay(queueGateway, false, 1, new int[0]);
+
+        // when
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        relay.start();
+        try {
+            while (relay.getDeadLettered() == 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        } finally {
+            relay.stop();
+        }
+
+        // then
+        Assertions.assertEquals(rows - 1, relay.getRelayed());
+        Assertions.assertEquals(MAX_ATTEMPTS, relay.getFailed());
+        Assertions.assertEquals(1, relay.getDeadLettered());
+        Assertions.assertEquals(MAX_ATTEMPTS, deliveries.get(poison.getAggregateHash()));
+        Assertions.assertEquals(1, outboxJpaRepository.countByPublishedFalse());
+
+        final var actualPoison = outboxJpaRepository.findById(poison.getId()).get();
+        Assertions.assertFalse(actualPoison.isPublished());
+        Assertions.assertEquals(MAX_ATTEMPTS, actualPoison.getAttempts());
+        Assertions.assertNotNull(actualPoison.getFailedAt());
+    }
+
+    private List<OutboxEntity> createRows(final int rows) {
+        final var entities = new ArrayList<OutboxEntity>(rows);
+        for (int i = 0; i < rows; i++) {
+            final var id = Ids.next();
+            final var content = "{\"type\":\"test\",\"id\":\"%s\"}".formatted(id);
+            entities.add(new OutboxEntity(id, content, false, OutboxEntity.hashOf(Ids.nextValue())));
+        }
+
+        outboxJpaRepository.saveAll(entities);
+
+        return entities;
+    }
+
+    private OutboxRelay newRelay(
+            final Map<String, Integer> published,
+            final boolean skipLocked,
+            final int partitionCount,
+            final int[] partitions
+    ) {
+        final QueueGateway queueGateway = message -> {
+            published.merge(message.json(), 1, Integer::sum);
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(PUBLISH_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            return CompletableFuture.completedFuture(null);
+        };
+
+        return newRelay(queueGateway, skipLocked, partitionCount, partitions);
+    }
+
+    private OutboxRelay newRelay(
+            final QueueGateway queueGateway,
+            final boolean skipLocked,
+            final int partitionCount,
+            final int[] partitions
+    ) {
+        return new OutboxRelay(
+                outboxJpaRepository,
+                queueGateway,
+                new OutboxSignal(),
+                transactionTemplate,
+                true,
+                skipLocked,
+                partitionCount,
+                partitions,
+                10,
+                20,
+                10,
+                50,
+                5_000,
+                10,
+                MAX_ATTEMPTS
+        );
+    }
+
+    private void drain(final List<OutboxRelay> relays, final Map<String, Integer> published, final int rows) throws Exception {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+        relays.forEach(OutboxRelay::start);
+        try {
+            while ((published.size() < rows || outboxJpaRepository.countByPublishedFalse() > 0) && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        } finally {
+            for (final var relay : relays) {
+                relay.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.IntegrationTest;
+import br.com.fullcycle.domain.customer.Customer;
+import br.com.fullcycle.domain.customer.CustomerRepository;
+import br.com.fullcycle.domain.event.Event;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistEntry;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.partner.Partner;
+import br.com.fullcycle.domain.partner.PartnerRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class WaitlistPromoterIT extends IntegrationTest {
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @BeforeEach
+    void setUp() {
+        waitlistRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve promover na varredura uma lista de espera cujas vagas nenhuma liberação anunciou")
+    public void testSweepPromotesStuckWaitlist() throws Exception {
+        // given
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
+        final var john = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-09", "john@gmail.com"));
+        final var jane = customerRepository.create(Customer.newCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com"));
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 2, aPartner));
+
+        // Waiting on free seats, as left behind by a restart that lost the pending promotion
+        waitlistRepository.create(WaitlistEntry.newEntry(anEvent.getEventId(), john.getCustomerId()));
+        waitlistRepository.create(WaitlistEntry.newEntry(anEvent.getEventId(), jane.getCustomerId()));
+
+        final var expectedTickets = 2;
+
+        // when
+        waitlistPromoter.sweep();
+
+        // The scheduled tick may run the promotion first, so keep ticking until it is done
+        for (int i = 0; i < 50 && waitlistRepository.hasWaiting(anEvent.getEventId()); i++) {
+            waitlistPromoter.promote();
+            Thread.sleep(100);
+        }
+
+        // then
+        Assertions.assertFalse(waitlistRepository.hasWaiting(anEvent.getEventId()));
+        Assertions.assertTrue(waitlistRepository.eventsWithFreeSeats(10).isEmpty());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.getEventId()).get();
+        Assertions.assertEquals(expectedTickets, actualEvent.getAllTickets().size());
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.fullcycle.infrastructure.job;
+
+import br.com.fullcycle.application.event.PromoteWaitlistUseCase;
+import br.com.fullcycle.domain.event.EventId;
+import br.com.fullcycle.domain.event.EventRepository;
+import br.com.fullcycle.domain.event.waitlist.WaitlistRepository;
+import br.com.fullcycle.domain.exceptions.ConcurrencyException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WaitlistPromoterTest {
+
+    @Test
+    @DisplayName("Deve esperar antes de tentar de novo uma promoção que falhou")
+    public void testBackoffAfterFailure() {
+        // given
+        final var calls = new AtomicInteger();
+        final var promoter = new WaitlistPromoter(failing(calls), unused(WaitlistRepository.class), Duration.ofHours(1), Duration.ofHours(1), 10, 100);
+        promoter.seatsReleased("event");
+
+        // when
+        promoter.promote();
+        promoter.promote();
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, promoter.getFailures());
+        Assertions.assertEquals(0, promoter.getAbandoned());
+    }
+
+    @Test
+    @DisplayName("Deve desistir de uma promoção depois de falhas demais seguidas")
+    public void testAbandonAfterMaxFailures() {
+        // given
+        final var expectedFailures = 3;
+        final var calls = new AtomicInteger();
+        final var promoter = new WaitlistPromoter(failing(calls), unused(WaitlistRepository.class), Duration.ZERO, Duration.ZERO, expectedFailures, 100);
+        promoter.seatsReleased("event");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            promoter.promote();
+        }
+
+        // then
+        Assertions.assertEquals(expectedFailures, calls.get());
+        Assertions.assertEquals(expectedFailures, promoter.getFailures());
+        Assertions.assertEquals(1, promoter.getAbandoned());
+    }
+
+    @Test
+    @DisplayName("Deve promover os eventos com espera e vagas encontrados na varredura")
+    public void testSweepSchedulesEventsWithFreeSeats() {
+        // given
+        final var anEventId = EventId.unique();
+        final var calls = new AtomicInteger();
+        final var waitlistRepository = waitlistWith(List.of(anEventId));
+        final var promoter = new WaitlistPromoter(failing(calls), waitlistRepository, Duration.ZERO, Duration.ZERO, 10, 100);
+
+        // when
+        promoter.promote();
+        promoter.sweep();
+        promoter.promote();
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Não deve adiantar na varredura uma promoção que espera para tentar de novo")
+    public void testSweepKeepsBackoff() {
+        // given
+        final var anEventId = EventId.unique();
+        final var calls = new AtomicInteger();
+        final var waitlistRepository = waitlistWith(List.of(anEventId));
+        final var promoter =
+                new WaitlistPromoter(failing(calls), waitlistRepository, Duration.ofHours(1), Duration.ofHours(1), 10, 100);
+        promoter.seatsReleased(anEventId.value());
+        promoter.promote();
+
+        // when
+        promoter.sweep();
+        promoter.promote();
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    private static PromoteWaitlistUseCase failing(final AtomicInteger calls) {
+        return new PromoteWaitlistUseCase(unused(EventRepository.class), unused(WaitlistRepository.class)) {
+            @Override
+            public Output execute(final Input input) {
+                calls.incrementAndGet();
+                throw new ConcurrencyException("Event %s was changed concurrently".formatted(input.eventId()));
+            }
+        };
+    }
+
+    private static WaitlistRepository waitlistWith(final List<EventId> eventsWithFreeSeats) {
+        return (WaitlistRepository) Proxy.newProxyInstance(
+                WaitlistRepository.class.getClassLoader(),
+                new Class<?>[]{WaitlistRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("eventsWithFreeSeats")) {
+                        return eventsWithFreeSeats;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    // The use case is stubbed out whole, its repositories are never called
+    private static <T> T unused(final Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.fullcycle.infrastructure.outbox;
+
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+class BinaryRecordCodecTest {
+
+    private final BinaryRecordCodec codec = new BinaryRecordCodec();
+
+    @Test
+    @DisplayName("Deve codificar e decodificar um evento de domínio sem perder informação")
+    public void testRoundTrip() {
+        // given
+        final var expectedEvent = new EventTicketReserved(
+                "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d",
+                "event-ticket.reserved",
+                "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8e",
+                "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8f",
+                "NOT-AN-UUID",
+                Instant.parse("2026-10-17T10:15:30.123456789Z")
+        );
+
+        // 3 UUIDs of 1 + 16 bytes, strings of 1 + 4 + 21 and 1 + 4 + 11 bytes, and the instant in 1 + 8 + 4
+        final var expectedSize = 3 * 17 + 26 + 16 + 13;
+
+        // when
+        final var payload = codec.encode(expectedEvent);
+        final var actualEvent = codec.decode(EventTicketReserved.class, payload);
+
+        // then
+        Assertions.assertEquals(expectedEvent, actualEvent);
+        Assertions.assertEquals(expectedSize, payload.length);
+    }
+
+    @Test
+    @DisplayName("Deve ler payloads de versões anteriores quando os campos são apenas acrescentados")
+    public void testSchemaEvolution() {
+        // given
+        final var at = Instant.parse("2026-10-17T10:15:30Z");
+        final var v1 = new TicketV1("ticket-1", at);
+
+        // when
+        final var actualNewFromOld = codec.decode(TicketV2.class, codec.encode(v1));
+
+        // then
+        Assertions.assertEquals(new TicketV2("ticket-1", at, null), actualNewFromOld);
+    }
+
+    @Test
+    @DisplayName("Não deve ler payloads de versões posteriores em vez de descartar os campos novos")
+    public void testRejectNewerPayload() {
+        // given
+        final var v2 = new TicketV2("ticket-2", Instant.parse("2026-10-17T10:15:30Z"), "vip");
+        final var expectedError = "Payload has more components than " + TicketV1.class.getName();
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.decode(TicketV1.class, codec.encode(v2))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar records com componentes de tipos não suportados")
+    public void testUnsupportedComponent() {
+        // given
+        final var expectedError = "Unsupported component quantity of " + Unsupported.class.getName();
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.encode(new Unsupported("ticket", 1))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+
+    record TicketV1(String id, Instant at) {}
+
+    record TicketV2(String id, Instant at, String category) {}
+
+    record Unsupported(String id, int quantity) {}
+}
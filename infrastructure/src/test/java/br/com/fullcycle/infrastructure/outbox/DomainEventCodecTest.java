@@ -0,0 +1,55 @@
+package br.com.fullcycle.infrastructure.outbox;
+
+import br.com.fullcycle.domain.event.EventTicketReserved;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec(JsonMapper.builder().findAndAddModules().build(), "binary");
+
+    private final EventTicketReserved anEvent = new EventTicketReserved(
+            "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8d",
+            "event-ticket.reserved",
+            "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8e",
+            "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c8f",
+            "0190b2a4-5f1e-7c3a-8d2b-3f4e5a6b7c90",
+            Instant.parse("2026-10-17T10:15:30Z")
+    );
+
+    @Test
+    @DisplayName("Deve decodificar um evento em JSON e em binário na versão de schema registrada")
+    public void testDecodeRegisteredVersion() {
+        // given
+        final var schemaVersion = codec.schemaVersionOf(anEvent.type());
+
+        // when
+        final var actualFromJson = codec.decode(anEvent.type(), schemaVersion, codec.toJson(anEvent), null);
+        final var actualFromBinary = codec.decode(anEvent.type(), schemaVersion, null, codec.toBinary(anEvent));
+
+        // then
+        Assertions.assertEquals(anEvent, actualFromJson);
+        Assertions.assertEquals(anEvent, actualFromBinary);
+    }
+
+    @Test
+    @DisplayName("Não deve decodificar um evento de uma versão de schema mais nova que a registrada")
+    public void testRejectNewerVersion() {
+        // given
+        final var schemaVersion = codec.schemaVersionOf(anEvent.type()) + 1;
+        final var expectedError = "Unsupported schema version %d of event-ticket.reserved".formatted(schemaVersion);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.decode(anEvent.type(), schemaVersion, null, codec.toBinary(anEvent))
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+}
@@ -43,7 +43,7 @@ public class CustomerControllerTest {
     @DisplayName("Deve criar um cliente")
     public void testCreate() throws Exception {
 
-        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        var customer = new NewCustomerDTO("123.456.789-09", "john.doe@gmail.com", "John Doe");
 
         final var result = this.mvc.perform(
                         MockMvcRequestBuilders.post("/customers")
@@ -65,7 +65,7 @@ public class CustomerControllerTest {
     @DisplayName("Não deve cadastrar um cliente com CPF duplicado")
     public void testCreateWithDuplicatedCPFShouldFail() throws Exception {
 
-        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        var customer = new NewCustomerDTO("123.456.789-09", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro cliente
         this.mvc.perform(
@@ -78,7 +78,7 @@ public class CustomerControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id").isString())
                 .andReturn().getResponse().getContentAsByteArray();
 
-        customer = new NewCustomerDTO("123.456.789-01", "john2@gmail.com", "John Doe");
+        customer = new NewCustomerDTO("123.456.789-09", "john2@gmail.com", "John Doe");
 
         // Tenta criar o segundo cliente com o mesmo CPF
         this.mvc.perform(
@@ -94,7 +94,7 @@ public class CustomerControllerTest {
     @DisplayName("Não deve cadastrar um cliente com e-mail duplicado")
     public void testCreateWithDuplicatedEmailShouldFail() throws Exception {
 
-        var customer = new NewCustomerDTO("123.456.189-01", "john.doe@gmail.com", "John Doe");
+        var customer = new NewCustomerDTO("123.456.189-14", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro cliente
         this.mvc.perform(
@@ -107,7 +107,7 @@ public class CustomerControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id").isString())
                 .andReturn().getResponse().getContentAsByteArray();
 
-        customer = new NewCustomerDTO("999.999.189-01", "john.doe@gmail.com", "John Doe");
+        customer = new NewCustomerDTO("999.999.189-05", "john.doe@gmail.com", "John Doe");
 
         // Tenta criar o segundo cliente com o mesmo CPF
         this.mvc.perform(
@@ -123,7 +123,7 @@ public class CustomerControllerTest {
     @DisplayName("Deve obter um cliente por id")
     public void testGet() throws Exception {
 
-        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        var customer = new NewCustomerDTO("123.456.789-09", "john.doe@gmail.com", "John Doe");
 
         final var createResult = this.mvc.perform(
                         MockMvcRequestBuilders.post("/customers")
@@ -134,9 +134,13 @@ public class CustomerControllerTest {
 
         var customerId = mapper.readValue(createResult, CreateCustomerUseCase.Output.class).id();
 
-        final var result = this.mvc.perform(
+        final var asyncResult = this.mvc.perform(
                         MockMvcRequestBuilders.get("/customers/{id}", customerId)
                 )
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var result = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andReturn().getResponse().getContentAsByteArray();
 
@@ -151,7 +155,7 @@ public class CustomerControllerTest {
     @DisplayName("Deve obter um cliente por id com X-public")
     public void testGetPublic() throws Exception {
 
-        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        var customer = new NewCustomerDTO("123.456.789-09", "john.doe@gmail.com", "John Doe");
 
         final var createResult = this.mvc.perform(
                         MockMvcRequestBuilders.post("/customers")
@@ -162,10 +166,14 @@ public class CustomerControllerTest {
 
         var customerId = mapper.readValue(createResult, CreateCustomerUseCase.Output.class).id();
 
-        final var actualResponse = this.mvc.perform(
+        final var asyncResult = this.mvc.perform(
                         MockMvcRequestBuilders.get("/customers/{id}", customerId)
                                 .header("X-public", "true")
                 )
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var actualResponse = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andReturn().getResponse().getContentAsByteArray();
 
@@ -6,6 +6,7 @@ import br.com.fullcycle.domain.event.EventId;
 import br.com.fullcycle.domain.event.EventRepository;
 import br.com.fullcycle.domain.partner.Partner;
 import br.com.fullcycle.domain.partner.PartnerRepository;
+import br.com.fullcycle.infrastructure.dtos.BulkSubscribeDTO;
 import br.com.fullcycle.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.infrastructure.dtos.SubscribeDTO;
 import br.com.fullcycle.application.event.CreateEventUseCase;
@@ -24,6 +25,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -53,8 +56,8 @@ class EventControllerTest {
         customerRepository.deleteAll();
         partnerRepository.deleteAll();
 
-        johnDoe = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john@gmail.com"));
-        disney = partnerRepository.create(Partner.newPartner("Disney", "01.001.001/0001-72", "disney@gmail.com"));
+        johnDoe = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-09", "john@gmail.com"));
+        disney = partnerRepository.create(Partner.newPartner("Disney", "01.001.002/0001-68", "disney@gmail.com"));
     }
 
     @Test
@@ -109,4 +112,73 @@ class EventControllerTest {
         var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).get();
         Assertions.assertEquals(1, actualEvent.getAllTickets().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    @DisplayName("Deve comprar tickets de um evento para vários clientes")
+    public void testReserveTickets() throws Exception {
+
+        var janeDoe = customerRepository.create(Customer.newCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com"));
+        var event = new NewEventDTO("Disney on Ice", "2021-01-01", 100, disney.getPartnerId().value());
+
+        final var createResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateEventUseCase.Output.class).id();
+
+        var sub = new BulkSubscribeDTO(null, List.of(johnDoe.getCustomerId().value(), janeDoe.getCustomerId().value()));
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe/bulk", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(sub))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].eventTicketId").isString())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].eventTicketId").isString());
+
+        var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).get();
+        Assertions.assertEquals(2, actualEvent.getAllTickets().size());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Deve entrar na lista de espera de um evento esgotado")
+    public void testJoinWaitlist() throws Exception {
+
+        var janeDoe = customerRepository.create(Customer.newCustomer("Jane Doe", "123.456.788-10", "jane@gmail.com"));
+        var event = new NewEventDTO("Disney on Ice", "2021-01-01", 1, disney.getPartnerId().value());
+
+        final var createResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateEventUseCase.Output.class).id();
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(new SubscribeDTO(null, johnDoe.getCustomerId().value())))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/waitlist", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(new SubscribeDTO(null, janeDoe.getCustomerId().value())))
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").isString())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.customerId").value(janeDoe.getCustomerId().value()));
+    }
+}
@@ -105,7 +105,7 @@ public class PartnerControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id").isString())
                 .andReturn().getResponse().getContentAsByteArray();
 
-        partner = new NewPartnerDTO("66.666.538/0001-00", "john.doe@gmail.com", "John Doe");
+        partner = new NewPartnerDTO("66.666.538/0001-48", "john.doe@gmail.com", "John Doe");
 
         // Tenta criar o segundo parceiro com o mesmo CNPJ
         this.mvc.perform(
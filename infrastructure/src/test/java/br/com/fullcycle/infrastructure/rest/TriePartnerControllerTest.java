@@ -0,0 +1,8 @@
+package br.com.fullcycle.infrastructure.rest;
+
+import org.springframework.test.context.TestPropertySource;
+
+// The same partner routes, matched by the opt-in trie router
+@TestPropertySource(properties = "http.router=trie")
+class TriePartnerControllerTest extends PartnerControllerTest {
+}
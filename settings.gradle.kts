@@ -1,5 +1,9 @@
+plugins {
+    id("org.gradle.toolchains.foojay-resolver-convention") version "0.7.0"
+}
+
 rootProject.name = "mba-hexagonal-arch"
 
 include("domain")
 include("application")
-include("infrastructure")
\ No newline at end of file
+include("infrastructure")